@@ -0,0 +1,105 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark, matching on name and
+ * parameters, and prints both scores with the relative change:
+ *
+ *   mvn -P benchmark test-compile exec:exec -Dbenchmark.main=benchmark.CompareResults \
+ *       -Djmh.args="baseline.json target/jmh-result.json"
+ *
+ * A change smaller than the combined score errors is marked "~" rather than as a win or loss.
+ */
+public final class CompareResults {
+
+    private CompareResults() {
+    }
+
+
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> candidate = load(new File(args[1]));
+
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue().get("primaryMetric");
+            String unit = after.get("scoreUnit").asText();
+
+            if (before == null) {
+                System.out.printf("%-90s %14s %14s %9s%n", entry.getKey(), "-", format(after, unit), "new");
+                continue;
+            }
+
+            JsonNode beforeMetric = before.get("primaryMetric");
+            System.out.printf("%-90s %14s %14s %9s%n", entry.getKey(), format(beforeMetric, unit), format(after, unit), change(beforeMetric, after));
+        }
+    }
+
+
+
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText().replaceFirst("^benchmark\\.", ""));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Map<String, String> sorted = new TreeMap<>();
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    sorted.put(param.getKey(), param.getValue().asText());
+                }
+                key.append(' ').append(sorted);
+            }
+            results.put(key.toString(), result);
+        }
+
+        return results;
+    }
+
+
+
+    private static String format(JsonNode metric, String unit) {
+        return String.format("%.3f %s", metric.get("score").asDouble(), unit);
+    }
+
+
+
+    /* Positive means faster for time modes and more for throughput modes, i.e. always "better". */
+    private static String change(JsonNode before, JsonNode after) {
+        double baseline = before.get("score").asDouble();
+        double candidate = after.get("score").asDouble();
+        double noise = error(before) + error(after);
+
+        if (Math.abs(candidate - baseline) <= noise || baseline == 0) {
+            return "~";
+        }
+
+        boolean higherIsBetter = after.get("scoreUnit").asText().startsWith("ops/");
+        double improvement = higherIsBetter ? (candidate - baseline) / baseline : (baseline - candidate) / baseline;
+        return String.format("%+.1f%%", improvement * 100);
+    }
+
+
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
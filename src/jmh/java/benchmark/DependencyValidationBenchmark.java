@@ -0,0 +1,84 @@
+package benchmark;
+
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.validator.JobDependencyValidator;
+import org.example.validator.ParallelDependencyValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Full dependency validation (duplicates, references, cycles) of a random acyclic export where
+ * each job depends on up to three earlier jobs, listed in shuffled order: the sequential
+ * JobDependencyValidator versus ParallelDependencyValidator on a pool of the given size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class DependencyValidationBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int jobs;
+
+    @Param({"1", "4", "8"})
+    public int threads;
+
+    private ExportDataDto export;
+    private JobDependencyValidator sequential;
+    private ForkJoinPool pool;
+    private ParallelDependencyValidator parallel;
+
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<JobDto> generated = new ArrayList<>(jobs);
+
+        for (int id = 0; id < jobs; id++) {
+            List<DependencyDto> dependencies = new ArrayList<>();
+            for (int d = id == 0 ? 0 : random.nextInt(4); d > 0; d--) {
+                dependencies.add(DependencyDto.builder().dependsOnJobId(random.nextInt(id)).requiredStatus("SUCCESS").build());
+            }
+            generated.add(JobDto.builder().jobId(id).jobName("Job_" + id).dependencies(dependencies).build());
+        }
+        Collections.shuffle(generated, random);
+
+        export = ExportDataDto.builder().jobs(generated).build();
+        sequential = new JobDependencyValidator();
+        pool = new ForkJoinPool(threads);
+        parallel = new ParallelDependencyValidator(pool);
+    }
+
+
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+
+
+    @Benchmark
+    public ValidationResult sequentialValidator() {
+        return sequential.validate(export);
+    }
+
+
+
+    @Benchmark
+    public ValidationResult parallelValidator() {
+        return parallel.validate(export);
+    }
+}
@@ -0,0 +1,85 @@
+package benchmark;
+
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.dto.output.RedwoodTriggerDto;
+import org.example.utils.JsonCodec;
+import org.example.utils.JsonUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-job cost of reading an export and writing Redwood jobs with Jackson data binding versus the
+ * handwritten streaming codecs behind --fast-json. Add "-prof gc" for bytes allocated per job.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastJsonBenchmark {
+
+    private static final int JOBS = 1000;
+
+    @Param({"JACKSON", "STREAMING"})
+    public JsonCodec codec;
+
+    private byte[] export;
+    private RedwoodJobDto[] redwoodJobs;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"jobs\": [");
+        redwoodJobs = new RedwoodJobDto[JOBS];
+
+        for (int id = 1; id <= JOBS; id++) {
+            json.append(id == 1 ? "" : ",").append(String.format("{\"jobId\": %d, \"jobName\": \"Nightly_Load_%d\", \"jobType\": \"ETL\", \"system\": \"ORACLE\", "
+                    + "\"trigger\": {\"type\": \"SCHEDULE\", \"cronExpression\": \"0 %d * * *\", \"timezone\": \"Europe/Paris\"}, "
+                    + "\"dependencies\": [{\"dependsOnJobId\": %d, \"requiredStatus\": \"SUCCESS\"}], "
+                    + "\"executionConstraints\": {\"priority\": 5, \"maxRuntimeMinutes\": 120, \"excludeHolidays\": false}, "
+                    + "\"notes\": \"Owned by data platform\"}", id, id, random.nextInt(24), Math.max(1, id - 1)));
+
+            RedwoodJobDto job = RedwoodJobDto.builder().name("Nightly_Load_" + id).type("SCHEDULED").system("ORACLE").priority(5).maxRuntimeMinutes(120)
+                    .trigger(RedwoodTriggerDto.builder().type("SCHEDULED").schedule("0 2 * * *").timezone("Europe/Paris").build())
+                    .build();
+            job.addNote("Migrated from legacy scheduler");
+            job.addMetadata("original_trigger_type", "SCHEDULE");
+            redwoodJobs[id - 1] = job;
+        }
+
+        export = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        JsonUtils.warmUp();
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(JOBS)
+    public ExportDataDto readExport() throws IOException {
+        return JsonUtils.readExport(export, codec);
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(JOBS)
+    public int writeRedwoodJobs() throws IOException {
+        int bytes = 0;
+        for (RedwoodJobDto job : redwoodJobs) {
+            buffer.reset();
+            JsonUtils.writeRedwoodJob(buffer, job, codec);
+            bytes += buffer.size();
+        }
+        return bytes;
+    }
+}
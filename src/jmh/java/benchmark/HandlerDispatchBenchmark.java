@@ -0,0 +1,74 @@
+package benchmark;
+
+import org.example.dto.internal.Trigger;
+import org.example.handler.ApiTriggerHandler;
+import org.example.handler.DependencyTriggerHandler;
+import org.example.handler.FileWatchTriggerHandler;
+import org.example.handler.ManualTriggerHandler;
+import org.example.handler.ScheduleTriggerHandler;
+import org.example.service.TriggerHandler;
+import org.example.service.TriggerMigrationService;
+import org.example.service.TriggerType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-trigger cost of resolving a handler: the former linear canHandle scan versus the
+ * EnumMap dispatch table in TriggerMigrationService.findHandler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerDispatchBenchmark {
+
+    private static final int TRIGGERS = 1024;
+
+    private List<TriggerHandler> handlers;
+    private TriggerMigrationService service;
+    private Trigger[] triggers;
+
+
+
+    @Setup
+    public void setUp() {
+        handlers = List.of(new ScheduleTriggerHandler(), new ManualTriggerHandler(), new ApiTriggerHandler(),
+                new FileWatchTriggerHandler(), new DependencyTriggerHandler());
+        service = new TriggerMigrationService(handlers);
+
+        TriggerType[] types = TriggerType.values();
+        Random random = new Random(42);
+        triggers = new Trigger[TRIGGERS];
+        for (int i = 0; i < TRIGGERS; i++) {
+            triggers[i] = Trigger.builder().type(types[random.nextInt(types.length)]).jobName("Job_" + i).build();
+        }
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(TRIGGERS)
+    public void linearCanHandleScan(Blackhole blackhole) {
+        for (Trigger trigger : triggers) {
+            blackhole.consume(handlers.stream()
+                    .filter(handler -> handler.canHandle(trigger))
+                    .findFirst());
+        }
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(TRIGGERS)
+    public void enumMapDispatch(Blackhole blackhole) {
+        for (Trigger trigger : triggers) {
+            blackhole.consume(service.findHandler(trigger));
+        }
+    }
+}
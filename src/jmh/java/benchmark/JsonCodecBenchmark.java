@@ -0,0 +1,90 @@
+package benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.input.JobDto;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.dto.output.RedwoodTriggerDto;
+import org.example.utils.JsonUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-job JSON cost of the former generic ObjectMapper calls versus the prebuilt readers and
+ * writers in JsonUtils. Run with "-prof gc" to get bytes allocated per job (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    private static final byte[] JOB = ("{\"jobId\": 1001, \"jobName\": \"Nightly_Load\", \"jobType\": \"ETL\", \"system\": \"ORACLE\", "
+            + "\"trigger\": {\"type\": \"SCHEDULE\", \"cronExpression\": \"0 2 * * *\", \"timezone\": \"Europe/Paris\"}, "
+            + "\"dependencies\": [{\"dependsOnJobId\": 1000, \"requiredStatus\": \"SUCCESS\"}], "
+            + "\"executionConstraints\": {\"priority\": 5, \"maxRuntimeMinutes\": 120}, \"notes\": \"Owned by data platform\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+    private RedwoodJobDto redwoodJob;
+
+
+
+    @Setup
+    public void setUp() {
+        redwoodJob = RedwoodJobDto.builder().name("Nightly_Load").type("ETL").system("ORACLE").priority(5).maxRuntimeMinutes(120)
+                .trigger(RedwoodTriggerDto.builder().type("SCHEDULE").schedule("0 2 * * *").timezone("Europe/Paris").apiEnabled(false).build())
+                .build();
+        redwoodJob.addNote("Migrated from legacy scheduler");
+        redwoodJob.addMetadata("originalJobId", "1001");
+        JsonUtils.warmUp();
+    }
+
+
+
+    @Benchmark
+    public String writeMapperToString() throws IOException {
+        return mapper.writeValueAsString(redwoodJob);
+    }
+
+
+
+    @Benchmark
+    public int writeMapperToBytes() throws IOException {
+        buffer.reset();
+        mapper.writeValue(buffer, redwoodJob);
+        return buffer.size();
+    }
+
+
+
+    @Benchmark
+    public int writePrebuiltToBytes() throws IOException {
+        buffer.reset();
+        JsonUtils.writeRedwoodJob(buffer, redwoodJob);
+        return buffer.size();
+    }
+
+
+
+    @Benchmark
+    public JobDto readMapper() throws IOException {
+        return mapper.readValue(JOB, JobDto.class);
+    }
+
+
+
+    @Benchmark
+    public JobDto readPrebuilt() throws IOException {
+        try (JsonParser parser = JsonUtils.createParser(JOB)) {
+            return JsonUtils.readJob(parser);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.example.parser.DataParser;
+import org.example.parser.MappedJsonFileParser;
+import org.example.parser.StreamingJsonFileParser;
+import org.example.utils.FileUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * Time to stream every job out of a synthetic export of sizeMb megabytes through each input path:
+ * the whole file decoded into a String first (the former FileUtils.getFileContent route), a
+ * buffered byte stream, and a memory mapping. Jobs are bound one at a time in all three, so only
+ * the way bytes reach Jackson differs. Run 2GB exports with -p sizeMb=2048 and without readString,
+ * which cannot hold a String that large.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 4)
+@Measurement(iterations = 8)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class JsonInputBenchmark {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    @Param({"100", "1024"})
+    public int sizeMb;
+
+    @Param({"readString", "streaming", "mapped"})
+    public String input;
+
+    private Path exportFile;
+    private DataParser parser;
+
+
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        exportFile = Files.createTempFile("export-" + sizeMb + "mb-", ".json");
+        writeExport(exportFile, sizeMb * 1024L * 1024L);
+
+        parser = switch (input) {
+            case "readString" -> new StreamingJsonFileParser() {
+                @Override
+                protected JsonParser createParser(String filePath) throws IOException {
+                    return JSON.createParser(FileUtils.getFileContent(filePath));
+                }
+            };
+            case "streaming" -> new StreamingJsonFileParser();
+            case "mapped" -> new MappedJsonFileParser();
+            default -> throw new IllegalArgumentException("Unknown input: " + input);
+        };
+    }
+
+
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exportFile);
+    }
+
+
+
+    @Benchmark
+    public long streamAllJobs(Blackhole blackhole) throws IOException {
+        try (Stream<?> jobs = parser.stream(exportFile.toString())) {
+            return jobs.peek(blackhole::consume).count();
+        }
+    }
+
+
+
+    private static void writeExport(Path file, long targetBytes) throws IOException {
+        Random random = new Random(42);
+        String[] systems = {"ORACLE", "SAP", "MAINFRAME", "POSTGRES"};
+        long written = 0;
+
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\"exportVersion\": \"2.0\", \"jobs\": [\n");
+            for (int id = 1; written < targetBytes; id++) {
+                String job = String.format("%s{\"jobId\": %d, \"jobName\": \"Nightly_Load_%d\", \"jobType\": \"ETL\", \"system\": \"%s\", "
+                                + "\"trigger\": {\"type\": \"SCHEDULE\", \"cronExpression\": \"0 %d * * *\", \"timezone\": \"Europe/Paris\"}, "
+                                + "\"dependencies\": [{\"dependsOnJobId\": %d}], \"notes\": \"Migrated from legacy scheduler, owner team %d\"}\n",
+                        id == 1 ? "" : ",", id, id, systems[random.nextInt(systems.length)], random.nextInt(24),
+                        Math.max(1, id - 1 - random.nextInt(10)), random.nextInt(50));
+                out.write(job);
+                written += job.length();
+            }
+            out.write("]}\n");
+        }
+    }
+}
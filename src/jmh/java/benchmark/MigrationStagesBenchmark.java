@@ -0,0 +1,207 @@
+package benchmark;
+
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.Trigger;
+import org.example.dto.internal.ValidationResult;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.output.FilePerJobSink;
+import org.example.output.OutputSink;
+import org.example.parser.StreamingJsonFileParser;
+import org.example.report.MigrationResult;
+import org.example.service.TriggerMigrationService;
+import org.example.utils.ParallelZipArchiver;
+import org.example.validator.ConcurrentJobValidator;
+import org.openjdk.jmh.annotations.*;
+import unit.SyntheticExportGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * Cost of each orchestrator stage on the same synthetic export, so a change to one stage shows up
+ * in its own score: parse (file to ExportDataDto), validate (ConcurrentJobValidator, AUTO),
+ * convert (JobDto to Trigger), migrate (handlers only, output discarded), write (file-per-job
+ * output) and archive (zipping the written folder). The export comes from
+ * unit.SyntheticExportGenerator; shape it with -p jobs=.., -p fanOut=.. (dependencies per job) and
+ * -p mix=SCHEDULE|UNIFORM|PRODUCTION; compare two result files with benchmark.CompareResults.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MigrationStagesBenchmark {
+
+    private static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class Export {
+
+        @Param({"1000", "50000"})
+        public int jobs;
+
+        @Param({"1", "4"})
+        public int fanOut;
+
+        @Param({"SCHEDULE", "PRODUCTION"})
+        public SyntheticExportGenerator.TriggerMix mix;
+
+        Path workDir;
+        Path exportFile;
+        ExportDataDto export;
+        List<Trigger> triggers;
+
+
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            workDir = Files.createTempDirectory("stage-bench");
+            SyntheticExportGenerator generator = SyntheticExportGenerator.builder().seed(SEED).jobs(jobs).maxFanIn(fanOut).triggerMix(mix).build();
+            export = generator.toExport();
+            exportFile = generator.write(workDir, "export").get(0);
+            triggers = convert(export.getJobs(), workDir.resolve("output").toString());
+        }
+
+
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            deleteRecursively(workDir);
+        }
+    }
+
+
+
+    @State(Scope.Benchmark)
+    public static class Stages {
+
+        final StreamingJsonFileParser parser = new StreamingJsonFileParser();
+        final ConcurrentJobValidator validator = new ConcurrentJobValidator();
+        final TriggerMigrationService discardingService = new TriggerMigrationService(1, new DiscardingSink());
+
+
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            validator.shutdown();
+        }
+    }
+
+
+
+    @State(Scope.Benchmark)
+    public static class WrittenOutput {
+
+        Path zipFile;
+        ParallelZipArchiver archiver;
+
+
+
+        @Setup(Level.Trial)
+        public void setUp(Export export) throws IOException {
+            try (FilePerJobSink sink = new FilePerJobSink()) {
+                new TriggerMigrationService(1, sink).migrateAll(export.triggers);
+            }
+            zipFile = export.workDir.resolve("output_archive.zip");
+            archiver = new ParallelZipArchiver(ParallelZipArchiver.DEFAULT_LEVEL, Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+
+
+    @Benchmark
+    public ExportDataDto parse(Export export, Stages stages) throws IOException {
+        return stages.parser.parse(export.exportFile.toString());
+    }
+
+
+
+    @Benchmark
+    public ValidationResult validate(Export export, Stages stages) {
+        return stages.validator.validate(export.export);
+    }
+
+
+
+    @Benchmark
+    public List<Trigger> convert(Export export) {
+        return convert(export.export.getJobs(), export.workDir.toString());
+    }
+
+
+
+    @Benchmark
+    public MigrationResult migrate(Export export, Stages stages) {
+        return stages.discardingService.migrateAll(export.triggers);
+    }
+
+
+
+    @Benchmark
+    public MigrationResult write(Export export) throws IOException {
+        try (FilePerJobSink sink = new FilePerJobSink()) {
+            return new TriggerMigrationService(1, sink).migrateAll(export.triggers);
+        }
+    }
+
+
+
+    @Benchmark
+    public Path archive(WrittenOutput output, Export export) throws IOException {
+        output.archiver.archive(export.workDir.resolve("output"), output.zipFile);
+        return output.zipFile;
+    }
+
+
+
+    private static List<Trigger> convert(List<JobDto> jobs, String outputFolder) {
+        return jobs.stream().map(job -> Trigger.of(job, outputFolder)).toList();
+    }
+
+
+
+    private static void deleteRecursively(Path root) {
+        try (Stream<Path> walk = Files.walk(root)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+
+    private static final class DiscardingSink implements OutputSink {
+
+        @Override
+        public void write(Trigger trigger, RedwoodJobDto job) {
+            // measuring handler work only
+        }
+
+
+
+        @Override
+        public void flush() {
+            // nothing buffered
+        }
+
+
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+}
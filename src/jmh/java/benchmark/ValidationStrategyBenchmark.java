@@ -0,0 +1,72 @@
+package benchmark;
+
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.service.TriggerType;
+import org.example.validator.ConcurrentJobValidator;
+import org.example.validator.ValidationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-job validation cost of each ConcurrentJobValidator strategy across batch sizes, to locate
+ * the sequential / chunked / fork-join crossovers the AUTO cost model is expected to find.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ValidationStrategyBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int jobs;
+
+    @Param({"SEQUENTIAL", "CHUNKED", "FORK_JOIN", "AUTO"})
+    public ValidationStrategy strategy;
+
+    private ExportDataDto export;
+    private ConcurrentJobValidator validator;
+
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TriggerDto trigger = TriggerDto.builder().type(TriggerType.SCHEDULE).cronExpression("0 2 * * *").build();
+        List<JobDto> generated = new ArrayList<>(jobs);
+
+        for (int id = 0; id < jobs; id++) {
+            List<DependencyDto> dependencies = new ArrayList<>();
+            for (int d = id == 0 ? 0 : random.nextInt(3); d > 0; d--) {
+                dependencies.add(DependencyDto.builder().dependsOnJobId(random.nextInt(id)).build());
+            }
+            generated.add(JobDto.builder().jobId(id).jobName("Job_" + id).trigger(trigger).dependencies(dependencies).build());
+        }
+
+        export = ExportDataDto.builder().jobs(generated).build();
+        validator = new ConcurrentJobValidator(strategy);
+    }
+
+
+
+    @TearDown
+    public void tearDown() {
+        validator.shutdown();
+    }
+
+
+
+    @Benchmark
+    public ValidationResult validate() {
+        return validator.validate(export);
+    }
+}
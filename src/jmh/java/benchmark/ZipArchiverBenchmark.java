@@ -0,0 +1,101 @@
+package benchmark;
+
+import org.example.utils.ParallelZipArchiver;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/*
+ * Archiving throughput in files per second over a folder of Redwood-sized JSON files: the former
+ * single-threaded ZipOutputStream walk versus ParallelZipArchiver at several levels and thread counts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZipArchiverBenchmark {
+
+    private static final int FILES = 2000;
+
+    @Param({"0", "1", "6"})
+    public int level;
+
+    @Param({"1", "4", "8"})
+    public int threads;
+
+    private Path workDir;
+    private Path sourceFolder;
+    private Path zipFile;
+
+
+
+    @Setup
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("zip-bench");
+        sourceFolder = workDir.resolve("output");
+        zipFile = workDir.resolve("output_archive.zip");
+        Files.createDirectories(sourceFolder);
+
+        Random random = new Random(42);
+        for (int i = 0; i < FILES; i++) {
+            Files.writeString(sourceFolder.resolve("Job_" + i + "_1700000000000.json"), redwoodJson(i, random));
+        }
+    }
+
+
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> walk = Files.walk(workDir)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void parallelArchiver() throws IOException {
+        new ParallelZipArchiver(level, threads).archive(sourceFolder, zipFile);
+    }
+
+
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void sequentialZipOutputStream() throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipFile));
+             Stream<Path> paths = Files.walk(sourceFolder)) {
+            zos.setLevel(level);
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    zos.putNextEntry(new ZipEntry(sourceFolder.relativize(path).toString()));
+                    Files.copy(path, zos);
+                    zos.closeEntry();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+
+
+    private static String redwoodJson(int i, Random random) {
+        return String.format("{\"name\":\"Job_%d\",\"type\":\"JOB\",\"system\":\"LEGACY\",\"trigger\":{\"type\":\"CRON\","
+                        + "\"cron\":\"0 %d * * *\",\"timezone\":\"UTC\"},\"priority\":%d,\"maxRuntimeMinutes\":%d,"
+                        + "\"notes\":[\"Migrated from legacy scheduler\",\"Owner team %d\"],\"metadata\":{\"source\":\"export_%d.json\"}}",
+                i, random.nextInt(24), random.nextInt(10), 30 + random.nextInt(600), random.nextInt(50), i / 100);
+    }
+}
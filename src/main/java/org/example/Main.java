@@ -1,7 +1,11 @@
 package org.example;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.config.CommandLineOptions;
+import org.example.config.MigrationSettings;
+import org.example.metrics.jfr.FlightRecording;
 import org.example.orchestrator.MigrationOrchestrator;
+import org.example.output.OutputLayout;
 import org.example.utils.FileUtils;
 
 import java.io.IOException;
@@ -28,7 +32,12 @@ public class Main {
             return;
         }
 
-        handleMigration(inputPath, outputPath);
+        MigrationSettings settings = parseSettings(args);
+        if (settings == null) {
+            return;
+        }
+
+        handleMigration(inputPath, outputPath, settings);
     }
 
 
@@ -54,7 +63,18 @@ public class Main {
 
 
 
-    private static void handleMigration(String inputPath, String outputPath) throws Exception {
+    private static MigrationSettings parseSettings(String[] args) {
+        try {
+            return CommandLineOptions.parse(args, 2);
+        } catch (IllegalArgumentException e) {
+            log.error(e.getMessage());
+            return null;
+        }
+    }
+
+
+
+    private static void handleMigration(String inputPath, String outputPath, MigrationSettings settings) throws Exception {
         List<String> files = FileUtils.listFiles(Paths.get(inputPath), JSON_FILE_EXTENSION);
 
         if (files.isEmpty()) {
@@ -64,18 +84,22 @@ public class Main {
 
         log.info("Number of export files to process: {}", files.size());
 
-        try (MigrationOrchestrator orchestrator = new MigrationOrchestrator(outputPath)) {
-            orchestrator.migrate(files);
-        }
+        try (FlightRecording recording = FlightRecording.start(settings.getFlightRecording())) {
+            try (MigrationOrchestrator orchestrator = new MigrationOrchestrator(settings, outputPath)) {
+                orchestrator.migrate(files);
+            }
 
-        archiveOutput(outputPath);
+            if (settings.getOutputLayout() != OutputLayout.ARCHIVE) {
+                archiveOutput(outputPath, settings);
+            }
+        }
     }
 
 
 
-    private static void archiveOutput(String outputPath) throws IOException {
+    private static void archiveOutput(String outputPath, MigrationSettings settings) throws IOException {
         Path outputDir = Paths.get(outputPath);
         Path archivePath = Paths.get(outputPath + ARCHIVE_FILE_EXTENSION);
-        FileUtils.zipFolderAndDelete(outputDir, archivePath);
+        FileUtils.zipFolderAndDelete(outputDir, archivePath, settings.getArchiveLevel(), settings.getArchiveThreads());
     }
 }
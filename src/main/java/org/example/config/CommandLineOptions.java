@@ -0,0 +1,131 @@
+package org.example.config;
+
+import org.example.output.OutputLayout;
+import org.example.output.OutputSharding;
+import org.example.parser.FileReadMode;
+import org.example.validator.ValidationStrategy;
+
+import java.util.Locale;
+
+/*
+ * Parses the optional "--name=value" flags that follow the input and output folder arguments.
+ */
+public final class CommandLineOptions {
+
+    private static final int MAX_FAN_OUT = 65536;
+
+
+
+    private CommandLineOptions() {
+    }
+
+
+
+    public static MigrationSettings parse(String[] args, int firstOptionIndex) {
+        MigrationSettings.MigrationSettingsBuilder builder = MigrationSettings.builder();
+
+        for (int i = firstOptionIndex; i < args.length; i++) {
+            applyOption(builder, args[i]);
+        }
+
+        return builder.build();
+    }
+
+
+
+    private static void applyOption(MigrationSettings.MigrationSettingsBuilder builder, String option) {
+        if (option == null || !option.startsWith("--")) {
+            throw new IllegalArgumentException("Unrecognized argument: " + option);
+        }
+
+        int separator = option.indexOf('=');
+        String name = separator < 0 ? option.substring(2) : option.substring(2, separator);
+        String value = separator < 0 ? "" : option.substring(separator + 1);
+
+        switch (name) {
+            case "mode" -> builder.executionMode(parseEnum(ExecutionMode.class, name, value));
+            case "parse-threads" -> builder.parseParallelism(parsePositiveInt(name, value));
+            case "mapped-input" -> builder.mappedInput(parseFlag(name, value));
+            case "fast-json" -> builder.fastJson(parseFlag(name, value));
+            case "file-reads" -> builder.fileReadMode(parseEnum(FileReadMode.class, name, value));
+            case "max-open-files" -> builder.maxOpenFiles(parsePositiveInt(name, value));
+            case "max-buffered-mb" -> builder.maxBufferedMegabytes(parsePositiveInt(name, value));
+            case "migrate-threads" -> builder.migrationParallelism(parsePositiveInt(name, value));
+            case "queue-capacity" -> builder.queueCapacity(parsePositiveInt(name, value));
+            case "single-pass" -> builder.singlePass(parseFlag(name, value));
+            case "incremental" -> builder.incremental(parseFlag(name, value));
+            case "checkpoint" -> builder.checkpoint(parseFlag(name, value));
+            case "checkpoint-interval" -> builder.checkpointInterval(parsePositiveInt(name, value));
+            case "resume" -> builder.resume(parseFlag(name, value));
+            case "output-layout" -> builder.outputLayout(parseEnum(OutputLayout.class, name, value));
+            case "output-shards" -> builder.outputShards(parsePositiveInt(name, value));
+            case "output-sharding" -> builder.outputSharding(parseEnum(OutputSharding.class, name, value));
+            case "output-fan-out" -> builder.outputFanOut(parseIntInRange(name, value, 0, MAX_FAN_OUT));
+            case "validation" -> builder.validationStrategy(parseEnum(ValidationStrategy.class, name, value));
+            case "archive-level" -> builder.archiveLevel(parseIntInRange(name, value, 0, 9));
+            case "archive-threads" -> builder.archiveThreads(parsePositiveInt(name, value));
+            case "metrics" -> builder.metricsFile(parseRequired(name, value));
+            case "jfr" -> builder.flightRecording(parseRequired(name, value));
+            default -> throw new IllegalArgumentException("Unknown option: --" + name);
+        }
+    }
+
+
+
+    private static int parsePositiveInt(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Option --" + name + " requires a positive integer, got: " + value);
+    }
+
+
+
+    private static int parseIntInRange(String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new IllegalArgumentException("Option --" + name + " requires an integer between " + min + " and " + max + ", got: " + value);
+    }
+
+
+
+    private static String parseRequired(String name, String value) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("Option --" + name + " requires a value");
+        }
+        return value;
+    }
+
+
+
+    private static boolean parseFlag(String name, String value) {
+        if (value.isEmpty() || value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Option --" + name + " takes no value or true/false, got: " + value);
+    }
+
+
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported value for --" + name + ": " + value);
+        }
+    }
+}
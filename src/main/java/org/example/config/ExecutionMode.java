@@ -0,0 +1,7 @@
+package org.example.config;
+
+public enum ExecutionMode {
+    BATCH,
+    PIPELINED,
+    REACTIVE
+}
@@ -1,20 +1,75 @@
 package org.example.config;
 
+import org.example.metrics.MigrationMetrics;
+import org.example.output.CheckpointingOutputSink;
+import org.example.output.FilePerJobSink;
+import org.example.output.JobFileLayout;
+import org.example.output.NdjsonShardSink;
+import org.example.output.OutputSink;
+import org.example.output.ZipArchiveSink;
 import org.example.parser.BatchFileParser;
 import org.example.parser.ConcurrentJsonFileParser;
-import org.example.parser.JsonFileParser;
 import org.example.parser.DataParser;
+import org.example.parser.MappedJsonFileParser;
+import org.example.parser.MeteredDataParser;
+import org.example.parser.StreamingJsonFileParser;
 import org.example.service.TriggerMigrationService;
+import org.example.utils.JsonCodec;
 import org.example.validator.ConcurrentJobValidator;
+import org.example.validator.MeteredValidator;
 import org.example.validator.Validator;
 
 public record MigrationDependencies(
         DataParser dataParser,
         BatchFileParser batchFileParser,
         Validator validator,
-        TriggerMigrationService triggerService
+        TriggerMigrationService triggerService,
+        OutputSink outputSink,
+        MigrationMetrics metrics
 ) {
+    public MigrationDependencies(DataParser dataParser, BatchFileParser batchFileParser, Validator validator,
+                                 TriggerMigrationService triggerService, OutputSink outputSink) {
+        this(dataParser, batchFileParser, validator, triggerService, outputSink, MigrationMetrics.DISABLED);
+    }
+
+
+
     public static MigrationDependencies createDefault() {
-        return new MigrationDependencies(new JsonFileParser(), new ConcurrentJsonFileParser(), new ConcurrentJobValidator(), new TriggerMigrationService());
+        return createDefault(MigrationSettings.builder().migrationParallelism(1).build());
+    }
+
+
+
+    /* With a metrics file configured, the parser and validator are wrapped to time themselves. */
+    public static MigrationDependencies createDefault(MigrationSettings settings) {
+        MigrationMetrics metrics = settings.getMetricsFile() == null ? MigrationMetrics.DISABLED : new MigrationMetrics();
+        JsonCodec codec = JsonCodec.of(settings.isFastJson());
+        DataParser dataParser = settings.isMappedInput() ? new MappedJsonFileParser(codec) : new StreamingJsonFileParser(codec);
+        Validator validator = new ConcurrentJobValidator(settings.getValidationStrategy());
+        if (metrics.isEnabled()) {
+            dataParser = new MeteredDataParser(dataParser, metrics);
+            validator = new MeteredValidator(validator, metrics);
+        }
+
+        OutputSink outputSink = createOutputSink(settings, codec);
+        BatchFileParser batchFileParser = new ConcurrentJsonFileParser(dataParser, settings.getFileReadMode(),
+                settings.getParseParallelism(), settings.getMaxOpenFiles(), settings.getMaxBufferedMegabytes());
+
+        return new MigrationDependencies(dataParser, batchFileParser, validator,
+                new TriggerMigrationService(settings.getMigrationParallelism(), outputSink, metrics), outputSink, metrics);
+    }
+
+
+
+    private static OutputSink createOutputSink(MigrationSettings settings, JsonCodec codec) {
+        JobFileLayout layout = new JobFileLayout(settings.getOutputSharding(), settings.getOutputFanOut());
+        boolean checkpoint = settings.isCheckpoint() || settings.isResume();
+        OutputSink sink = switch (settings.getOutputLayout()) {
+            case FILE_PER_JOB -> new FilePerJobSink(layout, checkpoint || settings.isIncremental(), codec);
+            case NDJSON_SHARDS -> new NdjsonShardSink(settings.getOutputShards(), codec);
+            case ARCHIVE -> new ZipArchiveSink(layout, codec);
+        };
+
+        return checkpoint ? new CheckpointingOutputSink(sink, settings.isResume(), settings.getCheckpointInterval()) : sink;
     }
 }
@@ -0,0 +1,95 @@
+package org.example.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.example.output.OutputLayout;
+import org.example.output.OutputSharding;
+import org.example.parser.ConcurrentJsonFileParser;
+import org.example.parser.FileReadMode;
+import org.example.utils.ParallelZipArchiver;
+import org.example.validator.ValidationStrategy;
+
+
+@Getter
+@Builder
+@ToString
+public class MigrationSettings {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    @Builder.Default
+    private ExecutionMode executionMode = ExecutionMode.BATCH;
+
+    @Builder.Default
+    private int parseParallelism = Math.min(4, CORES);
+
+    @Builder.Default
+    private boolean mappedInput = false;
+
+    @Builder.Default
+    private boolean fastJson = false;
+
+    @Builder.Default
+    private FileReadMode fileReadMode = FileReadMode.PLATFORM;
+
+    @Builder.Default
+    private int maxOpenFiles = ConcurrentJsonFileParser.DEFAULT_MAX_OPEN_FILES;
+
+    @Builder.Default
+    private int maxBufferedMegabytes = ConcurrentJsonFileParser.DEFAULT_MAX_BUFFERED_MEGABYTES;
+
+    @Builder.Default
+    private int migrationParallelism = CORES;
+
+    @Builder.Default
+    private int queueCapacity = 1024;
+
+    @Builder.Default
+    private boolean singlePass = false;
+
+    @Builder.Default
+    private boolean incremental = false;
+
+    @Builder.Default
+    private boolean checkpoint = false;
+
+    @Builder.Default
+    private int checkpointInterval = 30;
+
+    @Builder.Default
+    private boolean resume = false;
+
+    @Builder.Default
+    private OutputLayout outputLayout = OutputLayout.FILE_PER_JOB;
+
+    @Builder.Default
+    private int outputShards = 8;
+
+    @Builder.Default
+    private OutputSharding outputSharding = OutputSharding.NONE;
+
+    @Builder.Default
+    private int outputFanOut = 0;
+
+    @Builder.Default
+    private ValidationStrategy validationStrategy = ValidationStrategy.AUTO;
+
+    @Builder.Default
+    private int archiveLevel = ParallelZipArchiver.DEFAULT_LEVEL;
+
+    @Builder.Default
+    private int archiveThreads = CORES;
+
+    /* Where to write run metrics at the end of the run; .prom or .txt for Prometheus text, anything else for JSON. */
+    private String metricsFile;
+
+    /* Where to write a Java Flight Recorder recording of the run, or null for none. */
+    private String flightRecording;
+
+
+
+    public static MigrationSettings defaults() {
+        return MigrationSettings.builder().build();
+    }
+}
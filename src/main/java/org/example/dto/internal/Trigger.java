@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
 import org.example.service.TriggerType;
 
 
@@ -13,8 +15,10 @@ import org.example.service.TriggerType;
 @Builder
 public class Trigger {
 
+    private Integer jobId;
     private TriggerType type;
     private String jobName;
+    private String system;
 
     private String cronExpression;
     private String timezone;
@@ -28,4 +32,24 @@ public class Trigger {
     private Integer upstreamJobId;
 
     private String outputFolderPath;
+
+
+
+    public static Trigger of(JobDto job, String outputFolderPath) {
+        TriggerDto dto = job.getTrigger();
+        return Trigger.builder()
+                .jobId(job.getJobId())
+                .type(dto.getType())
+                .jobName(job.getJobName())
+                .system(job.getSystem())
+                .cronExpression(dto.getCronExpression())
+                .timezone(dto.getTimezone())
+                .watchPath(dto.getWatchPath())
+                .filePattern(dto.getFilePattern())
+                .eventSource(dto.getEventSource())
+                .eventType(dto.getEventType())
+                .upstreamJobId(dto.getUpstreamJobId())
+                .outputFolderPath(outputFolderPath)
+                .build();
+    }
 }
@@ -8,9 +8,6 @@ import org.example.dto.output.RedwoodTriggerDto;
 import org.example.service.TriggerHandler;
 import org.example.service.TriggerType;
 import org.example.utils.Constants;
-import org.example.utils.FileUtils;
-
-import java.util.Date;
 
 
 @Slf4j
@@ -52,10 +49,6 @@ public class ApiTriggerHandler implements TriggerHandler {
                 .trigger(redwoodTrigger)
                 .build();
 
-        String outputFileName = redwoodJobDto.getName() + "_" + new Date().getTime() + ".json";
-        String outputPath = trigger.getOutputFolderPath();
-        FileUtils.writeToJsonFile(redwoodJobDto, outputFileName, outputPath);
-
         return redwoodJobDto;
     }
 
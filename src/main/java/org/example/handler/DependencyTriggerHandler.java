@@ -10,9 +10,6 @@ import org.example.exception.MigrationException;
 import org.example.service.TriggerHandler;
 import org.example.service.TriggerType;
 import org.example.utils.Constants;
-import org.example.utils.FileUtils;
-
-import java.util.Date;
 
 @Slf4j
 public class DependencyTriggerHandler implements TriggerHandler {
@@ -50,7 +47,13 @@ public class DependencyTriggerHandler implements TriggerHandler {
 
     @Override
     public RedwoodJobDto migrate(Trigger trigger) throws MigrationException {
-        ValidationResult validation = validate(trigger);
+        return migrate(trigger, validate(trigger));
+    }
+
+
+
+    @Override
+    public RedwoodJobDto migrate(Trigger trigger, ValidationResult validation) throws MigrationException {
         if (!validation.isValid()) {
             throw new MigrationException("Validation failed: " + validation.getErrors().get(0));
         }
@@ -74,10 +77,6 @@ public class DependencyTriggerHandler implements TriggerHandler {
         redwoodJobDto.addMetadata("trigger_condition", "ON_SUCCESS");
         redwoodJobDto.addNote(String.format("This job is triggered when job %d completes successfully", trigger.getUpstreamJobId()));
 
-        String outputFileName = redwoodJobDto.getName() + "_" + new Date().getTime() + ".json";
-        String outputPath = trigger.getOutputFolderPath();
-        FileUtils.writeToJsonFile(redwoodJobDto, outputFileName, outputPath);
-
         return redwoodJobDto;
     }
 
@@ -9,9 +9,6 @@ import org.example.exception.MigrationException;
 import org.example.service.TriggerHandler;
 import org.example.service.TriggerType;
 import org.example.utils.Constants;
-import org.example.utils.FileUtils;
-
-import java.util.Date;
 
 @Slf4j
 public class FileWatchTriggerHandler implements TriggerHandler {
@@ -53,7 +50,12 @@ public class FileWatchTriggerHandler implements TriggerHandler {
 
     @Override
     public RedwoodJobDto migrate(Trigger trigger) throws MigrationException {
-        validateTrigger(trigger);
+        return migrate(trigger, validate(trigger));
+    }
+
+    @Override
+    public RedwoodJobDto migrate(Trigger trigger, ValidationResult validation) throws MigrationException {
+        requireValid(validation);
 
         logConversion(trigger);
 
@@ -62,15 +64,10 @@ public class FileWatchTriggerHandler implements TriggerHandler {
 
         addMigrationNotes(redwoodJobDto, trigger);
 
-        String outputFileName = redwoodJobDto.getName() + "_" + new Date().getTime() + ".json";
-        String outputPath = trigger.getOutputFolderPath();
-        FileUtils.writeToJsonFile(redwoodJobDto, outputFileName, outputPath);
-
         return redwoodJobDto;
     }
 
-    private void validateTrigger(Trigger trigger) throws MigrationException {
-        ValidationResult validation = validate(trigger);
+    private void requireValid(ValidationResult validation) throws MigrationException {
         if (!validation.isValid()) {
             throw new MigrationException("Validation failed: " + validation.getErrors().get(0));
         }
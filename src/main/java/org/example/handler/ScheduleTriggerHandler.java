@@ -9,14 +9,15 @@ import org.example.exception.MigrationException;
 import org.example.service.TriggerHandler;
 import org.example.service.TriggerType;
 import org.example.utils.Constants;
-import org.example.utils.FileUtils;
 
-import java.util.Date;
+import java.util.regex.Pattern;
 
 
 @Slf4j
 public class ScheduleTriggerHandler implements TriggerHandler {
 
+    private static final Pattern CRON_FIELD_SEPARATOR = Pattern.compile("\\s+");
+
     @Override
     public TriggerType getSupportedType() {
         return TriggerType.SCHEDULE;
@@ -48,7 +49,13 @@ public class ScheduleTriggerHandler implements TriggerHandler {
 
     @Override
     public RedwoodJobDto migrate(Trigger trigger) throws MigrationException {
-        ValidationResult validation = validate(trigger);
+        return migrate(trigger, validate(trigger));
+    }
+
+
+
+    @Override
+    public RedwoodJobDto migrate(Trigger trigger, ValidationResult validation) throws MigrationException {
         if (!validation.isValid()) {
             throw new MigrationException("Validation failed: " + validation.getErrors().get(0));
         }
@@ -67,10 +74,6 @@ public class ScheduleTriggerHandler implements TriggerHandler {
                 .trigger(redwoodTrigger)
                 .build();
 
-        String outputFileName = redwoodJobDto.getName() + "_" + new Date().getTime() + ".json";
-        String outputPath = trigger.getOutputFolderPath();
-        FileUtils.writeToJsonFile(redwoodJobDto, outputFileName, outputPath);
-
         return redwoodJobDto;
     }
 
@@ -84,7 +87,7 @@ public class ScheduleTriggerHandler implements TriggerHandler {
 
 
     private boolean isValidCronExpression(String cron) {
-        String[] parts = cron.trim().split("\\s+");
+        String[] parts = CRON_FIELD_SEPARATOR.split(cron.trim());
         return parts.length >= 5 && parts.length <= 6;
     }
 }
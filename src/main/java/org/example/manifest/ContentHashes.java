@@ -0,0 +1,83 @@
+package org.example.manifest;
+
+import org.example.dto.input.JobDto;
+import org.example.utils.JsonUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+
+/*
+ * 64-bit content hashes for the manifest, the leading bytes of a SHA-256. Files are hashed as
+ * raw bytes; jobs as their JSON serialization, so formatting or field order in the export does
+ * not count as a change but any value does.
+ */
+public final class ContentHashes {
+
+    private static final int READ_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(ContentHashes::newDigest);
+    private static final ThreadLocal<JobBuffer> JOB_BUFFER = ThreadLocal.withInitial(JobBuffer::new);
+
+    private ContentHashes() {
+    }
+
+
+
+    public static long hashFile(Path file) throws IOException {
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+
+        byte[] buffer = new byte[READ_BUFFER];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+
+
+    public static long hashJob(JobDto job) throws IOException {
+        JobBuffer buffer = JOB_BUFFER.get();
+        buffer.reset();
+        JsonUtils.writeJob(buffer, job);
+
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        buffer.digestInto(digest);
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+
+
+    private static final class JobBuffer extends ByteArrayOutputStream {
+
+        private JobBuffer() {
+            super(1024);
+        }
+
+
+
+        private void digestInto(MessageDigest digest) {
+            digest.update(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.manifest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.utils.FileUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/*
+ * Ids of the jobs a running migration has already written, saved every few seconds so a run that
+ * dies part-way can be resumed without migrating those jobs again. Each save goes to a temporary
+ * sibling that is forced to disk before it atomically replaces the previous checkpoint, and the
+ * directory entry is synced after the rename, so after a crash the file is either the old or the
+ * new checkpoint, never a torn one.
+ */
+@Slf4j
+public class MigrationCheckpoint {
+
+    public static final String FILE_SUFFIX = "_checkpoint.bin";
+
+    private static final int MAGIC = 0x4D47_4350;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    private final Set<Integer> completed = ConcurrentHashMap.newKeySet();
+
+
+
+    public static Path pathFor(String outputPath) {
+        return Paths.get(outputPath + FILE_SUFFIX);
+    }
+
+
+
+    public static MigrationCheckpoint load(Path path) {
+        MigrationCheckpoint checkpoint = new MigrationCheckpoint();
+
+        try {
+            ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(path));
+            if (content.remaining() < HEADER_BYTES || content.getInt() != MAGIC || content.getInt() != FORMAT_VERSION) {
+                log.warn("Ignoring checkpoint {} written in another format, nothing will be skipped", path);
+                return checkpoint;
+            }
+
+            for (int i = content.getInt(); i > 0; i--) {
+                checkpoint.add(content.getInt());
+            }
+        } catch (NoSuchFileException e) {
+            log.info("No checkpoint at {}, nothing will be skipped", path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable checkpoint {} ({}), nothing will be skipped", path, e.getMessage());
+            return new MigrationCheckpoint();
+        }
+
+        return checkpoint;
+    }
+
+
+
+    public void save(Path path) throws IOException {
+        save(path, snapshot());
+    }
+
+
+
+    /* Saves the given ids rather than the live set, so callers can snapshot before flushing output. */
+    public static void save(Path path, int[] jobIds) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        ByteBuffer content = ByteBuffer.allocate(HEADER_BYTES + jobIds.length * Integer.BYTES);
+        content.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(jobIds.length);
+        for (int jobId : jobIds) {
+            content.putInt(jobId);
+        }
+        content.flip();
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        FileUtils.syncDirectory(parent);
+    }
+
+
+
+    public void add(int jobId) {
+        completed.add(jobId);
+    }
+
+
+
+    public boolean isCompleted(Integer jobId) {
+        return jobId != null && completed.contains(jobId);
+    }
+
+
+
+    public int[] snapshot() {
+        return completed.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+
+
+    public int size() {
+        return completed.size();
+    }
+}
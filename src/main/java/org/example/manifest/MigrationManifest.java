@@ -0,0 +1,225 @@
+package org.example.manifest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
+import org.example.service.TriggerType;
+import org.example.utils.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+
+/*
+ * What the last successful incremental run migrated: a content hash per export file and per job,
+ * plus each job's name, system, trigger type and dependencies, so jobs from unchanged files can rejoin
+ * dependency validation without being parsed again. Kept next to the output folder in a small
+ * binary file that is saved like a checkpoint: forced to disk, atomically renamed into place and
+ * its directory synced. A missing, unreadable or older-format manifest just means a full run.
+ */
+@Slf4j
+public class MigrationManifest {
+
+    public static final String FILE_SUFFIX = "_manifest.bin";
+
+    private static final int MAGIC = 0x4D47_4D46;
+    private static final int FORMAT_VERSION = 2;
+
+    private final Map<String, FileEntry> files = new HashMap<>();
+    private final Map<Integer, JobEntry> jobs = new HashMap<>();
+
+
+
+    public static Path pathFor(String outputPath) {
+        return Paths.get(outputPath + FILE_SUFFIX);
+    }
+
+
+
+    public static MigrationManifest load(Path path) {
+        MigrationManifest manifest = new MigrationManifest();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.warn("Ignoring manifest {} written in another format, running a full migration", path);
+                return new MigrationManifest();
+            }
+
+            for (int i = in.readInt(); i > 0; i--) {
+                manifest.putFile(in.readUTF(), new FileEntry(in.readLong(), readInts(in)));
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                int jobId = in.readInt();
+                long hash = in.readLong();
+                String jobName = in.readUTF();
+                String system = in.readUTF();
+                String type = in.readUTF();
+                manifest.putJob(new JobEntry(jobId, hash, jobName, system.isEmpty() ? null : system,
+                        type.isEmpty() ? null : TriggerType.valueOf(type), readInts(in)));
+            }
+        } catch (NoSuchFileException e) {
+            log.info("No manifest at {}, running a full migration", path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable manifest {} ({}), running a full migration", path, e.getMessage());
+            return new MigrationManifest();
+        }
+
+        return manifest;
+    }
+
+
+
+    /* Written to a temporary sibling first, so a crash mid-write leaves the previous manifest intact. */
+    public void save(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(files.size());
+            for (Map.Entry<String, FileEntry> file : files.entrySet()) {
+                out.writeUTF(file.getKey());
+                out.writeLong(file.getValue().hash());
+                writeInts(out, file.getValue().jobIds());
+            }
+
+            out.writeInt(jobs.size());
+            for (JobEntry job : jobs.values()) {
+                out.writeInt(job.jobId());
+                out.writeLong(job.hash());
+                out.writeUTF(Objects.requireNonNullElse(job.jobName(), ""));
+                out.writeUTF(Objects.requireNonNullElse(job.system(), ""));
+                out.writeUTF(job.triggerType() == null ? "" : job.triggerType().name());
+                writeInts(out, job.dependsOn());
+            }
+
+            out.flush();
+            channel.force(true);
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        FileUtils.syncDirectory(parent);
+    }
+
+
+
+    public FileEntry file(String path) {
+        return files.get(path);
+    }
+
+
+
+    public JobEntry job(Integer jobId) {
+        return jobId == null ? null : jobs.get(jobId);
+    }
+
+
+
+    public Collection<JobEntry> jobs() {
+        return jobs.values();
+    }
+
+
+
+    public int fileCount() {
+        return files.size();
+    }
+
+
+
+    public void putFile(String path, FileEntry entry) {
+        files.put(path, entry);
+    }
+
+
+
+    public void putJob(JobEntry entry) {
+        jobs.put(entry.jobId(), entry);
+    }
+
+
+
+    public void removeJob(Integer jobId) {
+        jobs.remove(jobId);
+    }
+
+
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+
+
+    public record FileEntry(long hash, int[] jobIds) {
+    }
+
+
+
+    public record JobEntry(int jobId, long hash, String jobName, String system, TriggerType triggerType, int[] dependsOn) {
+
+        public static JobEntry of(JobDto job, long hash) {
+            List<DependencyDto> dependencies = job.getDependencies() == null ? List.of() : job.getDependencies();
+            int[] dependsOn = dependencies.stream()
+                    .filter(dependency -> dependency != null && dependency.getDependsOnJobId() != null)
+                    .mapToInt(DependencyDto::getDependsOnJobId)
+                    .toArray();
+            TriggerType type = job.getTrigger() == null ? null : job.getTrigger().getType();
+            return new JobEntry(job.getJobId(), hash, job.getJobName(), job.getSystem(), type, dependsOn);
+        }
+
+
+
+        /* Enough of the job for dependency and per-job validation, which it passed when it was recorded. */
+        public JobDto toStub() {
+            List<DependencyDto> dependencies = new ArrayList<>(dependsOn.length);
+            for (int dependency : dependsOn) {
+                dependencies.add(DependencyDto.builder().dependsOnJobId(dependency).build());
+            }
+            return JobDto.builder()
+                    .jobId(jobId)
+                    .jobName(jobName)
+                    .system(system)
+                    .trigger(TriggerDto.builder().type(triggerType).build())
+                    .dependencies(dependencies)
+                    .build();
+        }
+    }
+}
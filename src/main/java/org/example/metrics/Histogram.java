@@ -0,0 +1,112 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/*
+ * Lock-free histogram of non-negative longs with power-of-two buckets: bucket i counts values
+ * below 2^i that did not fit bucket i - 1. Recording is a couple of adder increments, so it is
+ * cheap enough for per-job timings on every worker; quantiles are accurate to a factor of two,
+ * which is plenty for spotting the stage that dominates a run.
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final double unit;
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+
+
+    /* unit converts recorded values for export, e.g. 1e-9 for nanoseconds reported in seconds. */
+    Histogram(double unit) {
+        this.unit = unit;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets[bucketOf(clamped)].increment();
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+
+
+    public long count() {
+        return count.sum();
+    }
+
+
+
+    public double sum() {
+        return sum.sum() * unit;
+    }
+
+
+
+    public double max() {
+        return max.get() * unit;
+    }
+
+
+
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : sum() / n;
+    }
+
+
+
+    /* Upper bound of the bucket holding the q-th quantile, capped at the largest value seen. */
+    public double quantile(double q) {
+        long n = count();
+        if (n == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(q * n);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+
+
+    /* Cumulative counts per bucket, for Prometheus "le" buckets. */
+    long[] cumulativeCounts() {
+        long[] cumulative = new long[BUCKETS];
+        long running = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+
+
+    double upperBound(int bucket) {
+        return Math.scalb(1.0, bucket) * unit;
+    }
+
+
+
+    private static int bucketOf(long value) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+}
@@ -0,0 +1,368 @@
+package org.example.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.report.MigrationResult;
+import org.example.service.TriggerType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+
+/*
+ * Timings and throughput of one migration run: a latency histogram per stage and per trigger
+ * type, per-job write latency, bytes read and written, queue depths seen by the pipelined mode and
+ * how busy each worker pool was. Components record into it as they go; at the end of the run it
+ * is written as JSON, or as Prometheus text when the file name ends in .prom or .txt.
+ *
+ * DISABLED is what every component gets unless metrics were requested; it records nothing and its
+ * timers never read the clock.
+ */
+public class MigrationMetrics {
+
+    public static final MigrationMetrics DISABLED = new MigrationMetrics(false);
+
+    public static final String STAGE_SECONDS = "migration_stage_seconds";
+    public static final String HANDLER_SECONDS = "migration_handler_seconds";
+    public static final String WRITE_SECONDS = "migration_write_seconds";
+    public static final String QUEUE_DEPTH = "migration_queue_depth";
+    public static final String JOBS_TOTAL = "migration_jobs_total";
+    public static final String FILES_READ_TOTAL = "migration_files_read_total";
+    public static final String BYTES_READ_TOTAL = "migration_bytes_read_total";
+    public static final String BYTES_WRITTEN_TOTAL = "migration_bytes_written_total";
+    public static final String RUN_SECONDS = "migration_run_seconds";
+    public static final String JOBS_PER_SECOND = "migration_jobs_per_second";
+    public static final String POOL_UTILIZATION = "migration_pool_utilization_ratio";
+
+    public static final String PARSE = "parse";
+    public static final String VALIDATE = "validate";
+    public static final String CONVERT = "convert";
+    public static final String MIGRATE = "migrate";
+
+    private static final double NANOS = 1e-9;
+    private static final Histogram DISCARDED = new Histogram(1);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final boolean enabled;
+    private final Map<MetricId, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<MetricId, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, PoolUsage.Totals> pools = new ConcurrentHashMap<>();
+    private final Histogram[] handlerLatency = new Histogram[TriggerType.values().length];
+    private final Histogram writeLatency;
+    private final AtomicLong runStart = new AtomicLong();
+    private volatile long runEnd;
+
+
+
+    public MigrationMetrics() {
+        this(true);
+    }
+
+
+
+    private MigrationMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (TriggerType type : TriggerType.values()) {
+            handlerLatency[type.ordinal()] = registerHistogram(HANDLER_SECONDS, "trigger_type", type.name(), NANOS);
+        }
+        writeLatency = registerHistogram(WRITE_SECONDS, null, null, NANOS);
+    }
+
+
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+
+
+    /* Start of a timed section, to hand back to one of the record methods. */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+
+
+    public void recordStage(String stage, long startNanos) {
+        if (enabled) {
+            registerHistogram(STAGE_SECONDS, "stage", stage, NANOS).record(System.nanoTime() - startNanos);
+        }
+    }
+
+
+
+    public void recordHandler(TriggerType type, long startNanos) {
+        if (enabled && type != null) {
+            handlerLatency[type.ordinal()].record(System.nanoTime() - startNanos);
+        }
+    }
+
+
+
+    public void recordWrite(long startNanos) {
+        if (enabled) {
+            writeLatency.record(System.nanoTime() - startNanos);
+        }
+    }
+
+
+
+    /* Histogram of the depths a queue was observed at; look it up once and record on every hand-off. */
+    public Histogram queueDepth(String queue) {
+        return registerHistogram(QUEUE_DEPTH, "queue", queue, 1);
+    }
+
+
+
+    public void recordFileRead(long bytes) {
+        if (enabled) {
+            adder(FILES_READ_TOTAL, null, null).increment();
+            adder(BYTES_READ_TOTAL, null, null).add(bytes);
+        }
+    }
+
+
+
+    public void recordBytesWritten(long bytes) {
+        if (enabled) {
+            adder(BYTES_WRITTEN_TOTAL, null, null).add(bytes);
+        }
+    }
+
+
+
+    /* Open when a pool starts and close it with the pool; utilization is busy time over threads x lifetime. */
+    public PoolUsage pool(String name, int threads) {
+        return enabled ? new PoolUsage(pools.computeIfAbsent(name, key -> new PoolUsage.Totals()), threads) : PoolUsage.NONE;
+    }
+
+
+
+    /* The first call wins, so a run's start survives the nested calls incremental and resumed runs make. */
+    public void startRun() {
+        if (enabled) {
+            runStart.compareAndSet(0, System.nanoTime());
+        }
+    }
+
+
+
+    public void finishRun(MigrationResult result) {
+        if (!enabled) {
+            return;
+        }
+
+        runEnd = System.nanoTime();
+        adder(JOBS_TOTAL, "outcome", "success").add(result.getSuccessCount());
+        adder(JOBS_TOTAL, "outcome", "failure").add(result.getFailureCount());
+    }
+
+
+
+    /* Recorded values so far; an empty histogram when nothing was recorded under that name and label. */
+    public Histogram histogram(String name, String label, String value) {
+        Histogram histogram = histograms.get(new MetricId(name, label, value));
+        return histogram != null ? histogram : new Histogram(NANOS);
+    }
+
+
+
+    public long counter(String name, String label, String value) {
+        LongAdder counter = counters.get(new MetricId(name, label, value));
+        return counter == null ? 0 : counter.sum();
+    }
+
+
+
+    public double runSeconds() {
+        long start = runStart.get();
+        if (start == 0) {
+            return 0;
+        }
+        return ((runEnd > start ? runEnd : System.nanoTime()) - start) * NANOS;
+    }
+
+
+
+    public double jobsPerSecond() {
+        double seconds = runSeconds();
+        long jobs = counter(JOBS_TOTAL, "outcome", "success") + counter(JOBS_TOTAL, "outcome", "failure");
+        return seconds == 0 ? 0 : jobs / seconds;
+    }
+
+
+
+    public double poolUtilization(String pool) {
+        PoolUsage.Totals totals = pools.get(pool);
+        return totals == null ? 0 : totals.utilization();
+    }
+
+
+
+    public void writeTo(Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        String content = name.endsWith(".prom") || name.endsWith(".txt") ? toPrometheus() : toJson();
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+
+
+    public String toJson() throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("runSeconds", runSeconds());
+        root.put("jobsPerSecond", jobsPerSecond());
+
+        List<Map<String, Object>> counterEntries = new ArrayList<>();
+        forEachSorted(counters, (id, counter) -> counterEntries.add(entry(id, Map.of("value", counter.sum()))));
+        root.put("counters", counterEntries);
+
+        List<Map<String, Object>> poolEntries = new ArrayList<>();
+        new TreeMap<>(pools).forEach((pool, totals) -> poolEntries.add(Map.of("pool", pool, "utilization", totals.utilization())));
+        root.put("pools", poolEntries);
+
+        List<Map<String, Object>> histogramEntries = new ArrayList<>();
+        forEachSorted(histograms, (id, histogram) -> {
+            if (histogram.count() > 0) {
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("count", histogram.count());
+                summary.put("sum", histogram.sum());
+                summary.put("mean", histogram.mean());
+                summary.put("p50", histogram.quantile(0.50));
+                summary.put("p95", histogram.quantile(0.95));
+                summary.put("p99", histogram.quantile(0.99));
+                summary.put("max", histogram.max());
+                histogramEntries.add(entry(id, summary));
+            }
+        });
+        root.put("histograms", histogramEntries);
+
+        return MAPPER.writeValueAsString(root);
+    }
+
+
+
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+
+        gauge(out, RUN_SECONDS, null, runSeconds());
+        gauge(out, JOBS_PER_SECOND, null, jobsPerSecond());
+        new TreeMap<>(pools).forEach((pool, totals) -> gauge(out, POOL_UTILIZATION, "pool=\"" + pool + "\"", totals.utilization()));
+
+        String[] lastType = {null};
+        forEachSorted(counters, (id, counter) -> {
+            typeLine(out, lastType, id.name(), "counter");
+            out.append(id.name()).append(id.labels(null)).append(' ').append(counter.sum()).append('\n');
+        });
+        forEachSorted(histograms, (id, histogram) -> {
+            if (histogram.count() > 0) {
+                typeLine(out, lastType, id.name(), "histogram");
+                appendBuckets(out, id, histogram);
+            }
+        });
+
+        return out.toString();
+    }
+
+
+
+    private static void appendBuckets(StringBuilder out, MetricId id, Histogram histogram) {
+        long[] cumulative = histogram.cumulativeCounts();
+        long total = histogram.count();
+
+        for (int i = 0; i < cumulative.length; i++) {
+            if (cumulative[i] == 0) {
+                continue;
+            }
+            out.append(id.name()).append("_bucket").append(id.labels("le=\"" + histogram.upperBound(i) + "\""))
+                    .append(' ').append(cumulative[i]).append('\n');
+            if (cumulative[i] == total) {
+                break;
+            }
+        }
+        out.append(id.name()).append("_bucket").append(id.labels("le=\"+Inf\"")).append(' ').append(total).append('\n');
+        out.append(id.name()).append("_sum").append(id.labels(null)).append(' ').append(histogram.sum()).append('\n');
+        out.append(id.name()).append("_count").append(id.labels(null)).append(' ').append(total).append('\n');
+    }
+
+
+
+    private static void gauge(StringBuilder out, String name, String labels, double value) {
+        out.append("# TYPE ").append(name).append(" gauge\n");
+        out.append(name).append(labels == null ? "" : "{" + labels + "}").append(' ').append(value).append('\n');
+    }
+
+
+
+    private static void typeLine(StringBuilder out, String[] lastType, String name, String type) {
+        if (!name.equals(lastType[0])) {
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            lastType[0] = name;
+        }
+    }
+
+
+
+    private static Map<String, Object> entry(MetricId id, Map<String, Object> values) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("name", id.name());
+        if (id.label() != null) {
+            entry.put(id.label(), id.value());
+        }
+        entry.putAll(values);
+        return entry;
+    }
+
+
+
+    private static <T> void forEachSorted(Map<MetricId, T> metrics, BiConsumer<MetricId, T> action) {
+        Map<MetricId, T> sorted = new TreeMap<>(Comparator.comparing(MetricId::name)
+                .thenComparing(MetricId::value, Comparator.nullsFirst(Comparator.naturalOrder())));
+        sorted.putAll(metrics);
+        sorted.forEach(action);
+    }
+
+
+
+    private Histogram registerHistogram(String name, String label, String value, double unit) {
+        if (!enabled) {
+            return DISCARDED;
+        }
+        return histograms.computeIfAbsent(new MetricId(name, label, value), id -> new Histogram(unit));
+    }
+
+
+
+    private LongAdder adder(String name, String label, String value) {
+        return counters.computeIfAbsent(new MetricId(name, label, value), id -> new LongAdder());
+    }
+
+
+
+    private record MetricId(String name, String label, String value) {
+
+        String labels(String extra) {
+            String own = label == null ? null : label + "=\"" + value + "\"";
+            if (own == null && extra == null) {
+                return "";
+            }
+            return "{" + (own == null ? extra : extra == null ? own : own + "," + extra) + "}";
+        }
+    }
+}
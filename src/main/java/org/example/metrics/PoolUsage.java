@@ -0,0 +1,93 @@
+package org.example.metrics;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/*
+ * Busy time of the tasks one thread pool ran, against the time its threads were available. Open
+ * one per pool lifetime, wrap every task submitted to it and close it with the pool; pools of the
+ * same name add up, so the exported utilization covers every pool a stage created during the run.
+ * Long-lived workers report the time they spent blocked on a queue as idle.
+ */
+public final class PoolUsage implements AutoCloseable {
+
+    static final PoolUsage NONE = new PoolUsage(null, 0);
+
+    private final Totals totals;
+    private final int threads;
+    private final long start = System.nanoTime();
+
+
+
+    PoolUsage(Totals totals, int threads) {
+        this.totals = totals;
+        this.threads = threads;
+    }
+
+
+
+    public Runnable wrap(Runnable task) {
+        if (totals == null) {
+            return task;
+        }
+
+        return () -> {
+            long begin = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                totals.busyNanos.add(System.nanoTime() - begin);
+            }
+        };
+    }
+
+
+
+    public <T> Callable<T> wrap(Callable<T> task) {
+        if (totals == null) {
+            return task;
+        }
+
+        return () -> {
+            long begin = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                totals.busyNanos.add(System.nanoTime() - begin);
+            }
+        };
+    }
+
+
+
+    public void idle(long nanos) {
+        if (totals != null) {
+            totals.busyNanos.add(-nanos);
+        }
+    }
+
+
+
+    @Override
+    public void close() {
+        if (totals != null) {
+            totals.capacityNanos.add(threads * (System.nanoTime() - start));
+        }
+    }
+
+
+
+    static final class Totals {
+
+        final LongAdder busyNanos = new LongAdder();
+        final LongAdder capacityNanos = new LongAdder();
+
+
+
+        double utilization() {
+            long capacity = capacityNanos.sum();
+            return capacity == 0 ? 0 : Math.max(0, Math.min(1.0, (double) busyNanos.sum() / capacity));
+        }
+    }
+}
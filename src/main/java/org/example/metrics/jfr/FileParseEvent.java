@@ -0,0 +1,78 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+
+@Name("org.example.migration.FileParse")
+@Label("Export File Parse")
+@Category({"Migration", "Parse"})
+@Description("One export file parsed into jobs")
+@StackTrace(false)
+public final class FileParseEvent extends Event {
+
+    @Label("File")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Jobs")
+    int jobs;
+
+
+
+    public static FileParseEvent start() {
+        FileParseEvent event = new FileParseEvent();
+        event.begin();
+        return event;
+    }
+
+
+
+    /* The file is only looked up when a recording actually wants the event. */
+    public void finish(String path, int jobs) {
+        end();
+        if (shouldCommit()) {
+            commit(path, sizeOf(path), jobs);
+        }
+    }
+
+
+
+    public void finish(String path, long bytes, int jobs) {
+        end();
+        if (shouldCommit()) {
+            commit(path, bytes, jobs);
+        }
+    }
+
+
+
+    private void commit(String path, long bytes, int jobs) {
+        this.path = path;
+        this.bytes = bytes;
+        this.jobs = jobs;
+        commit();
+    }
+
+
+
+    private static long sizeOf(String path) {
+        try {
+            return Files.size(Paths.get(path));
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
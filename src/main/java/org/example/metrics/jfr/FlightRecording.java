@@ -0,0 +1,87 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.List;
+
+
+/*
+ * A JFR recording with the JDK's "default" settings plus the migration events, dumped to a file
+ * when closed. The migration events are always registered and only cost a begin/end pair while
+ * no recording is running, so recordings started with -XX:StartFlightRecording or jcmd pick them
+ * up too. Per-job events keep their 1 ms threshold unless a .jfc file overrides it.
+ */
+@Slf4j
+public final class FlightRecording implements AutoCloseable {
+
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(MigrationRunEvent.class, FileParseEvent.class,
+            ValidationPhaseEvent.class, TriggerMigrateEvent.class, OutputWriteEvent.class);
+
+    private final Recording recording;
+    private final Path destination;
+
+
+
+    private FlightRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+
+
+    /* Null destination means no recording; closing the result is then a no-op. */
+    public static FlightRecording start(String destination) throws IOException {
+        if (destination == null) {
+            return new FlightRecording(null, null);
+        }
+
+        Path path = Paths.get(destination).toAbsolutePath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        Recording recording = new Recording(defaultConfiguration());
+        recording.setName("migration");
+        recording.setToDisk(true);
+        recording.setDestination(path);
+        EVENTS.forEach(event -> {
+            FlightRecorder.register(event);
+            recording.enable(event);
+        });
+        recording.start();
+
+        log.info("Flight recording started, will be written to {}", path);
+        return new FlightRecording(recording, path);
+    }
+
+
+
+    @Override
+    public void close() {
+        if (recording == null) {
+            return;
+        }
+
+        recording.stop();
+        recording.close();
+        log.info("Flight recording written to {}", destination);
+    }
+
+
+
+    private static Configuration defaultConfiguration() throws IOException {
+        try {
+            return Configuration.getConfiguration("default");
+        } catch (ParseException e) {
+            throw new IOException("Unreadable JFR default configuration", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.example.report.MigrationResult;
+
+
+@Name("org.example.migration.Run")
+@Label("Migration Run")
+@Category("Migration")
+@Description("One orchestrator run, from the first file parsed to the last job written")
+@StackTrace(false)
+public final class MigrationRunEvent extends Event {
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Files")
+    int files;
+
+    @Label("Migrated Jobs")
+    int migrated;
+
+    @Label("Failed Jobs")
+    int failed;
+
+
+
+    public static MigrationRunEvent start() {
+        MigrationRunEvent event = new MigrationRunEvent();
+        event.begin();
+        return event;
+    }
+
+
+
+    public void finish(String mode, int files, MigrationResult result) {
+        end();
+        if (shouldCommit()) {
+            this.mode = mode;
+            this.files = files;
+            this.migrated = result.getSuccessCount();
+            this.failed = result.getFailureCount();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+
+/* Per job, so only writes above the threshold are recorded unless a recording lowers it. */
+@Name("org.example.migration.OutputWrite")
+@Label("Output Write")
+@Category({"Migration", "Output"})
+@Description("One migrated job serialized and handed to the output")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class OutputWriteEvent extends Event {
+
+    @Label("Layout")
+    String layout;
+
+    @Label("Job Name")
+    String jobName;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+
+
+    public static OutputWriteEvent start() {
+        OutputWriteEvent event = new OutputWriteEvent();
+        event.begin();
+        return event;
+    }
+
+
+
+    public void finish(String layout, String jobName, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.layout = layout;
+            this.jobName = jobName;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.example.dto.internal.Trigger;
+import org.example.service.TriggerHandler;
+
+
+/* Per job, so only calls above the threshold are recorded unless a recording lowers it. */
+@Name("org.example.migration.TriggerMigrate")
+@Label("Trigger Migrate")
+@Category({"Migration", "Handler"})
+@Description("A handler validating and converting one trigger")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class TriggerMigrateEvent extends Event {
+
+    @Label("Job Id")
+    int jobId;
+
+    @Label("Job Name")
+    String jobName;
+
+    @Label("Trigger Type")
+    String triggerType;
+
+    @Label("Handler")
+    Class<?> handler;
+
+    @Label("Migrated")
+    boolean migrated;
+
+
+
+    public static TriggerMigrateEvent start() {
+        TriggerMigrateEvent event = new TriggerMigrateEvent();
+        event.begin();
+        return event;
+    }
+
+
+
+    public void finish(Trigger trigger, TriggerHandler handler, boolean migrated) {
+        end();
+        if (shouldCommit()) {
+            this.jobId = trigger.getJobId() == null ? -1 : trigger.getJobId();
+            this.jobName = trigger.getJobName();
+            this.triggerType = trigger.getType() == null ? null : trigger.getType().name();
+            this.handler = handler.getClass();
+            this.migrated = migrated;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+@Name("org.example.migration.ValidationPhase")
+@Label("Validation Phase")
+@Category({"Migration", "Validation"})
+@Description("Per-job checks or dependency graph validation over the complete job set")
+@StackTrace(false)
+public final class ValidationPhaseEvent extends Event {
+
+    public static final String JOB_CHECKS = "job checks";
+    public static final String DEPENDENCIES = "dependencies";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Jobs")
+    int jobs;
+
+    @Label("Errors")
+    int errors;
+
+
+
+    public static ValidationPhaseEvent start() {
+        ValidationPhaseEvent event = new ValidationPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+
+
+    public void finish(String phase, String strategy, int jobs, int errors) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.strategy = strategy;
+            this.jobs = jobs;
+            this.errors = errors;
+            commit();
+        }
+    }
+}
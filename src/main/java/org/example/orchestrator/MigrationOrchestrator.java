@@ -1,22 +1,44 @@
 package org.example.orchestrator;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.config.ExecutionMode;
 import org.example.config.MigrationDependencies;
+import org.example.config.MigrationSettings;
 import org.example.dto.input.ExportDataDto;
 import org.example.dto.input.JobDto;
-import org.example.dto.input.TriggerDto;
 import org.example.dto.internal.Trigger;
 import org.example.dto.internal.ValidationResult;
+import org.example.exception.MigrationException;
 import org.example.exception.ValidationException;
+import org.example.manifest.ContentHashes;
+import org.example.manifest.MigrationCheckpoint;
+import org.example.manifest.MigrationManifest;
+import org.example.metrics.MigrationMetrics;
+import org.example.metrics.jfr.FileParseEvent;
+import org.example.metrics.jfr.MigrationRunEvent;
+import org.example.output.OutputSink;
 import org.example.parser.BatchFileParser;
 import org.example.parser.DataParser;
 import org.example.report.MigrationAnalysis;
+import org.example.report.MigrationOutcome;
 import org.example.report.MigrationResult;
 import org.example.service.TriggerMigrationService;
+import org.example.utils.JsonUtils;
 import org.example.validator.Validator;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 public class MigrationOrchestrator  implements AutoCloseable {
@@ -24,22 +46,45 @@ public class MigrationOrchestrator  implements AutoCloseable {
     private static final String MIGRATION_FAILED = "Migration failed";
     private static final String ORCHESTRATOR_SHUTDOWN = "Shutting down orchestrator...";
     private static final String SHUTDOWN_COMPLETE = "Shutdown complete";
+    private static final String ALREADY_MIGRATED = "Migrated before resume";
 
     private final DataParser dataParser;
     private final BatchFileParser batchParser;
     private final Validator validator;
     private final TriggerMigrationService triggerService;
+    private final OutputSink outputSink;
+    private final MigrationMetrics metrics;
+    private final MigrationSettings settings;
     private final String outputPath;
+    private MigrationCheckpoint completedJobs = new MigrationCheckpoint();
+    private MigrationRunEvent runEvent;
+    private int runFiles;
 
 
 
-    public MigrationOrchestrator(MigrationDependencies dependencies, String outputPath) {
+    public MigrationOrchestrator(MigrationDependencies dependencies, MigrationSettings settings, String outputPath) {
         this.dataParser = dependencies.dataParser();
         this.batchParser = dependencies.batchFileParser();
         this.validator = dependencies.validator();
         this.triggerService = dependencies.triggerService();
+        this.outputSink = dependencies.outputSink();
+        this.metrics = Objects.requireNonNullElse(dependencies.metrics(), MigrationMetrics.DISABLED);
+        this.settings = settings;
         this.outputPath = outputPath;
-        log.info("Migration orchestrator initialized");
+        JsonUtils.warmUp();
+        log.info("Migration orchestrator initialized: {}", settings);
+    }
+
+
+
+    public MigrationOrchestrator(MigrationDependencies dependencies, String outputPath) {
+        this(dependencies, MigrationSettings.defaults(), outputPath);
+    }
+
+
+
+    public MigrationOrchestrator(MigrationSettings settings, String outputPath) {
+        this(MigrationDependencies.createDefault(settings), settings, outputPath);
     }
 
 
@@ -51,23 +96,35 @@ public class MigrationOrchestrator  implements AutoCloseable {
 
 
     public void migrate(List<String> filePaths) throws IOException {
-        if(filePaths.size() == 1) {
+        startRun(filePaths);
+        if (settings.isResume()) {
+            loadCheckpoint();
+        }
+
+        if (settings.isIncremental()) {
+            if (outputSink.supportsIncremental()) {
+                migrateIncremental(filePaths);
+                return;
+            }
+            log.warn("Output layout {} cannot replace individual jobs, running a full migration", settings.getOutputLayout());
+        }
+
+        if (settings.getExecutionMode() == ExecutionMode.REACTIVE) {
+            migrateReactive(filePaths);
+        } else if(filePaths.size() == 1) {
             long start = System.currentTimeMillis();
             log.info("Starting migration from file: {}", filePaths.get(0));
 
-            ExportDataDto export = dataParser.parse(filePaths.get(0));
+            ExportDataDto export = parse(filePaths.get(0));
             log.info("Parsed {} jobs from export file", export.getJobs().size());
 
             validateOrThrow(export);
 
-            List<Trigger> triggers = convertToTriggers(export.getJobs());
-
-            analyzeTriggers(triggers);
-
-            log.info("Migrating triggers to Redwood...");
-            MigrationResult result = triggerService.migrateAll(triggers);
+            MigrationResult result = analyzeAndMigrate(export.getJobs());
 
             logCompletion(result, start);
+        } else if (settings.getExecutionMode() == ExecutionMode.PIPELINED) {
+            migratePipelined(filePaths);
         } else {
             migrateAsync(filePaths);
         }
@@ -75,18 +132,225 @@ public class MigrationOrchestrator  implements AutoCloseable {
 
 
 
+    private void migratePipelined(List<String> paths) {
+        long start = System.currentTimeMillis();
+
+        MigrationPipeline pipeline = new MigrationPipeline(dataParser, validator, triggerService, this::convertToTrigger,
+                job -> completedJobs.isCompleted(job.getJobId()), settings, metrics);
+        MigrationResult result = pipeline.run(paths);
+
+        logCompletion(result, start);
+    }
+
+
+
+    private void migrateReactive(List<String> paths) {
+        long start = System.currentTimeMillis();
+
+        ReactiveMigration migration = new ReactiveMigration(batchParser, validator, triggerService, this::convertToTrigger,
+                job -> completedJobs.isCompleted(job.getJobId()), settings, metrics);
+        MigrationResult result = migration.run(paths);
+
+        logCompletion(result, start);
+    }
+
+
+
+    /* Joined before returning, so close() never flushes or closes the sink under running writers. */
     private void migrateAsync(List<String> paths) {
         long start = System.currentTimeMillis();
         log.info("Starting concurrent migration for {} files", paths.size());
 
-        batchParser.parseMultipleFiles(paths)
-                .thenApply(this::validateAndReturnJobs)
-                .thenApply(this::analyzeAndMigrate)
-                .thenApply(result -> logCompletion(result, start))
-                .exceptionally(e -> {
-                    log.error(MIGRATION_FAILED, e);
-                    return MigrationResult.builder().build();
-                });
+        try {
+            batchParser.parseMultipleFiles(paths)
+                    .thenApply(this::validateAndReturnJobs)
+                    .thenApply(this::analyzeAndMigrate)
+                    .thenApply(result -> logCompletion(result, start))
+                    .join();
+        } catch (CompletionException e) {
+            log.error(MIGRATION_FAILED, e.getCause());
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new MigrationException(MIGRATION_FAILED, e.getCause());
+        }
+    }
+
+
+
+    /*
+     * Parses only export files whose content hash changed and migrates only jobs that are new or
+     * whose own hash changed. Jobs from unchanged files come back from the manifest as stubs, so
+     * validation still sees the whole job graph. Jobs that disappeared lose their output; jobs
+     * that fail to migrate are left out of the new manifest and retried next run. Changed files are
+     * parsed concurrently by the batch parser whatever the execution mode, and a file that cannot be
+     * parsed fails the run rather than being skipped, which would remove its jobs' output.
+     */
+    public MigrationResult migrateIncremental(List<String> filePaths) throws IOException {
+        long start = System.currentTimeMillis();
+        startRun(filePaths);
+        Path manifestPath = MigrationManifest.pathFor(outputPath);
+        MigrationManifest previous = MigrationManifest.load(manifestPath);
+        MigrationManifest next = new MigrationManifest();
+
+        List<JobDto> allJobs = new ArrayList<>();
+        List<JobDto> changedJobs = new ArrayList<>();
+        List<MigrationManifest.JobEntry> carriedJobs = new ArrayList<>();
+        Map<String, Long> changedFiles = new LinkedHashMap<>();
+
+        for (String path : filePaths) {
+            long hash = ContentHashes.hashFile(Paths.get(path));
+            MigrationManifest.FileEntry known = previous.file(path);
+
+            if (known != null && known.hash() == hash && carryForward(known, previous, next, allJobs, carriedJobs)) {
+                next.putFile(path, known);
+            } else {
+                changedFiles.put(path, hash);
+            }
+        }
+        log.info("Incremental run: {} of {} export files unchanged", filePaths.size() - changedFiles.size(), filePaths.size());
+        if (settings.getExecutionMode() != ExecutionMode.BATCH) {
+            log.info("Incremental runs parse changed files in batch mode, execution mode {} does not apply", settings.getExecutionMode());
+        }
+
+        List<String> changedPaths = new ArrayList<>(changedFiles.keySet());
+        List<CompletableFuture<List<JobDto>>> parsedFiles = changedPaths.isEmpty() ? List.of() : batchParser.parseEach(changedPaths);
+        for (int i = 0; i < changedPaths.size(); i++) {
+            String path = changedPaths.get(i);
+            List<JobDto> jobs = awaitParse(parsedFiles.get(i));
+            int[] jobIds = new int[jobs.size()];
+            int count = 0;
+
+            for (JobDto job : jobs) {
+                allJobs.add(job);
+                if (job.getJobId() == null) {
+                    changedJobs.add(job);
+                    continue;
+                }
+
+                long hash = ContentHashes.hashJob(job);
+                MigrationManifest.JobEntry known = previous.job(job.getJobId());
+                if (known != null && known.hash() == hash) {
+                    carriedJobs.add(known);
+                } else {
+                    changedJobs.add(job);
+                }
+                next.putJob(MigrationManifest.JobEntry.of(job, hash));
+                jobIds[count++] = job.getJobId();
+            }
+            next.putFile(path, new MigrationManifest.FileEntry(changedFiles.get(path), Arrays.copyOf(jobIds, count)));
+        }
+
+        validateOrThrow(ExportDataDto.builder().jobs(allJobs).build());
+        log.info("Incremental run: {} new or changed jobs, {} unchanged", changedJobs.size(), carriedJobs.size());
+
+        removeDeletedJobs(previous, next);
+        MigrationResult result = changedJobs.isEmpty() ? MigrationResult.builder().build() : analyzeAndMigrate(changedJobs);
+        forgetFailedJobs(changedJobs, result, next);
+        carriedJobs.forEach(job -> result.getSuccesses().putIfAbsent(job.jobName(), "Unchanged since last run"));
+
+        /* The manifest must never list a job whose output is not on disk yet. */
+        outputSink.flush();
+        next.save(manifestPath);
+        return logCompletion(result, start);
+    }
+
+
+
+    /* Nested calls, e.g. migrate() handing over to migrateIncremental(), keep the first start. */
+    private void startRun(List<String> filePaths) {
+        metrics.startRun();
+        if (runEvent == null) {
+            runEvent = MigrationRunEvent.start();
+            runFiles = filePaths.size();
+        }
+    }
+
+
+
+    private ExportDataDto parse(String path) throws IOException {
+        FileParseEvent event = FileParseEvent.start();
+        ExportDataDto export = dataParser.parse(path);
+        event.finish(path, export.getJobs().size());
+        return export;
+    }
+
+
+
+    private static List<JobDto> awaitParse(CompletableFuture<List<JobDto>> file) throws IOException {
+        try {
+            return file.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+
+
+    /* False when a job the file listed is missing from the manifest, i.e. it failed last time and must be parsed again. */
+    private boolean carryForward(MigrationManifest.FileEntry file, MigrationManifest previous, MigrationManifest next,
+                                 List<JobDto> allJobs, List<MigrationManifest.JobEntry> carriedJobs) {
+        List<MigrationManifest.JobEntry> entries = new ArrayList<>(file.jobIds().length);
+        for (int jobId : file.jobIds()) {
+            MigrationManifest.JobEntry entry = previous.job(jobId);
+            if (entry == null) {
+                return false;
+            }
+            entries.add(entry);
+        }
+
+        for (MigrationManifest.JobEntry entry : entries) {
+            allJobs.add(entry.toStub());
+            carriedJobs.add(entry);
+            next.putJob(entry);
+        }
+        return true;
+    }
+
+
+
+    /*
+     * Also covers jobs whose output path moved: renamed jobs, whose file name changes with the job
+     * name, and jobs whose system or trigger type changed, which land in another shard. Runs before
+     * the changed jobs are written, so removing a path the job is written back to is harmless.
+     */
+    private void removeDeletedJobs(MigrationManifest previous, MigrationManifest next) {
+        for (MigrationManifest.JobEntry entry : previous.jobs()) {
+            MigrationManifest.JobEntry current = next.job(entry.jobId());
+            if (current != null && Objects.equals(current.jobName(), entry.jobName())
+                    && Objects.equals(current.system(), entry.system()) && current.triggerType() == entry.triggerType()) {
+                continue;
+            }
+
+            Trigger removed = Trigger.builder().jobId(entry.jobId()).jobName(entry.jobName()).system(entry.system())
+                    .type(entry.triggerType()).outputFolderPath(outputPath).build();
+            try {
+                outputSink.remove(removed);
+                log.info("Removed previous output of job {} ({})", entry.jobId(), entry.jobName());
+            } catch (MigrationException e) {
+                log.error("Failed to remove output of deleted job {}: {}", entry.jobId(), e.getMessage());
+            }
+        }
+    }
+
+
+
+    private void forgetFailedJobs(List<JobDto> changedJobs, MigrationResult result, MigrationManifest next) {
+        for (JobDto job : changedJobs) {
+            boolean migrated = result.getSuccesses().containsKey(job.getJobName()) && !result.getFailures().containsKey(job.getJobName());
+            if (job.getJobId() != null && !migrated) {
+                next.removeJob(job.getJobId());
+            }
+        }
     }
 
 
@@ -122,44 +386,121 @@ public class MigrationOrchestrator  implements AutoCloseable {
 
 
 
+    /*
+     * Output names are derived from job ids and rewritten in place, so skipping the jobs the last
+     * checkpoint lists is all a resume needs; anything written after that checkpoint is simply
+     * written again.
+     */
+    private void loadCheckpoint() {
+        if (!outputSink.supportsIncremental()) {
+            log.warn("Output layout {} rewrites its files on every run, resuming with a full migration", settings.getOutputLayout());
+            return;
+        }
+
+        Path checkpoint = MigrationCheckpoint.pathFor(outputPath);
+        if (!Files.exists(checkpoint)) {
+            log.warn("No checkpoint at {}: the previous run completed or never checkpointed, migrating every job", checkpoint);
+        }
+        completedJobs = MigrationCheckpoint.load(checkpoint);
+        log.info("Resuming migration: {} jobs completed before the interruption will be skipped", completedJobs.size());
+    }
+
+
+
     private MigrationResult analyzeAndMigrate(List<JobDto> jobs) {
-        List<Trigger> triggers = convertToTriggers(jobs);
-        analyzeTriggers(triggers);
-        return triggerService.migrateAll(triggers);
+        if (completedJobs.size() == 0) {
+            return analyzeAndMigrateTriggers(convertToTriggers(jobs));
+        }
+
+        List<JobDto> pending = new ArrayList<>(jobs.size());
+        List<String> skipped = new ArrayList<>();
+        for (JobDto job : jobs) {
+            if (completedJobs.isCompleted(job.getJobId())) {
+                skipped.add(job.getJobName());
+            } else {
+                pending.add(job);
+            }
+        }
+        log.info("Skipping {} jobs migrated before resume, {} left", skipped.size(), pending.size());
+
+        MigrationResult result = pending.isEmpty() ? MigrationResult.builder().build() : analyzeAndMigrateTriggers(convertToTriggers(pending));
+        skipped.forEach(jobName -> result.getSuccesses().putIfAbsent(jobName, ALREADY_MIGRATED));
+        return result;
+    }
+
+
+
+    private MigrationResult analyzeAndMigrateTriggers(List<Trigger> triggers) {
+        long start = metrics.startTimer();
+        try {
+            if (settings.isSinglePass()) {
+                log.info("Analyzing and migrating triggers to Redwood in a single pass...");
+                MigrationOutcome outcome = triggerService.analyzeAndMigrate(triggers);
+                outcome.analysis().printReport();
+                return outcome.result();
+            }
+
+            analyzeTriggers(triggers);
+
+            log.info("Migrating triggers to Redwood...");
+            return triggerService.migrateAll(triggers);
+        } finally {
+            metrics.recordStage(MigrationMetrics.MIGRATE, start);
+        }
     }
 
 
 
     private MigrationResult logCompletion(MigrationResult result, long start) {
         log.info("Migration completed in {} ms", System.currentTimeMillis() - start);
+        removeCheckpoint(result);
+        metrics.finishRun(result);
+        if (runEvent != null) {
+            runEvent.finish(settings.isIncremental() ? "INCREMENTAL" : settings.getExecutionMode().name(), runFiles, result);
+            runEvent = null;
+        }
         result.printReport();
         return result;
     }
 
 
 
+    /*
+     * A run that migrated every job leaves nothing to resume, and a checkpoint kept around would make
+     * a later --resume skip jobs whose exports may have changed since. Flushed first, so closing the
+     * sink has no unsaved jobs left to write the checkpoint back for.
+     */
+    private void removeCheckpoint(MigrationResult result) {
+        if (!(settings.isCheckpoint() || settings.isResume()) || result.hasFailures()) {
+            return;
+        }
+
+        Path checkpoint = MigrationCheckpoint.pathFor(outputPath);
+        try {
+            outputSink.flush();
+            if (Files.deleteIfExists(checkpoint)) {
+                log.info("Migration completed without failures, removed checkpoint {}", checkpoint);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to remove checkpoint {}: {}", checkpoint, e.getMessage());
+        }
+    }
+
+
+
     private List<Trigger> convertToTriggers(List<JobDto> jobs) {
-        return jobs.stream()
+        long start = metrics.startTimer();
+        List<Trigger> triggers = jobs.stream()
                 .map(this::convertToTrigger)
                 .toList();
+        metrics.recordStage(MigrationMetrics.CONVERT, start);
+        return triggers;
     }
 
 
 
     private Trigger convertToTrigger(JobDto job) {
-        TriggerDto dto = job.getTrigger();
-        return Trigger.builder()
-                .type(dto.getType())
-                .jobName(job.getJobName())
-                .cronExpression(dto.getCronExpression())
-                .timezone(dto.getTimezone())
-                .watchPath(dto.getWatchPath())
-                .filePattern(dto.getFilePattern())
-                .eventSource(dto.getEventSource())
-                .eventType(dto.getEventType())
-                .upstreamJobId(dto.getUpstreamJobId())
-                .outputFolderPath(outputPath)
-                .build();
+        return Trigger.of(job, outputPath);
     }
 
 
@@ -169,6 +510,37 @@ public class MigrationOrchestrator  implements AutoCloseable {
         log.info(ORCHESTRATOR_SHUTDOWN);
         batchParser.shutdown();
         validator.shutdown();
+        closeOutput();
+        writeMetrics();
         log.info(SHUTDOWN_COMPLETE);
     }
+
+
+
+    /* After the output is closed, so the byte count covers everything the sink flushed. */
+    private void writeMetrics() {
+        if (settings.getMetricsFile() == null || !metrics.isEnabled()) {
+            return;
+        }
+
+        metrics.recordBytesWritten(outputSink.bytesWritten());
+        try {
+            metrics.writeTo(Paths.get(settings.getMetricsFile()));
+            log.info("Run metrics written to {}: {} jobs/s over {} s", settings.getMetricsFile(),
+                    String.format("%.1f", metrics.jobsPerSecond()), String.format("%.1f", metrics.runSeconds()));
+        } catch (IOException e) {
+            log.error("Failed to write run metrics to {}: {}", settings.getMetricsFile(), e.getMessage());
+        }
+    }
+
+
+
+    private void closeOutput() {
+        try {
+            outputSink.flush();
+            outputSink.close();
+        } catch (IOException e) {
+            log.error("Failed to flush migrated jobs to output: {}", e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,322 @@
+package org.example.orchestrator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.MigrationSettings;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.Trigger;
+import org.example.dto.internal.ValidationResult;
+import org.example.exception.MigrationException;
+import org.example.exception.ValidationException;
+import org.example.metrics.Histogram;
+import org.example.metrics.MigrationMetrics;
+import org.example.metrics.PoolUsage;
+import org.example.metrics.jfr.FileParseEvent;
+import org.example.parser.DataParser;
+import org.example.report.MigrationOutcome;
+import org.example.report.MigrationResult;
+import org.example.service.TriggerMigrationService;
+import org.example.validator.Validator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+
+/*
+ * Runs a migration as overlapping stages connected by bounded queues:
+ *
+ *   parse (N workers) -> collect + validate -> convert -> migrate/write (M workers)
+ *
+ * Dependency validation needs the complete job set, and nothing may be written for an export
+ * that fails validation, so "collect + validate" is a barrier. Parsing of all files overlaps with
+ * collection, and conversion overlaps with migration, so at most queueCapacity triggers are
+ * alive at once on the write side. Jobs a resumed run already migrated are validated but never
+ * converted. Queue depths are sampled on every hand-off, so the metrics show which side of a
+ * queue is the bottleneck: a full queue means a slow consumer, an empty one a slow producer.
+ *
+ * A parse worker hands a file's jobs over only once the whole file has parsed, so a file that is
+ * malformed partway through is skipped entirely, as in batch mode, rather than contributing its
+ * leading jobs. Files still overlap with collection and with each other.
+ *
+ * A worker that dies, even on an Error, fails the run instead of hanging it: parse workers always
+ * post their end marker, and the converter stops waiting on a full queue once a migrate worker
+ * has stopped.
+ */
+@Slf4j
+public class MigrationPipeline {
+
+    private static final JobDto END_OF_JOBS = new JobDto();
+    private static final Trigger END_OF_TRIGGERS = new Trigger();
+    private static final String ALREADY_MIGRATED = "Migrated before resume";
+    private static final long LIVENESS_CHECK_MILLIS = 100;
+
+    private final DataParser dataParser;
+    private final Validator validator;
+    private final TriggerMigrationService triggerService;
+    private final Function<JobDto, Trigger> converter;
+    private final Predicate<JobDto> alreadyMigrated;
+    private final MigrationSettings settings;
+    private final MigrationMetrics metrics;
+
+
+
+    public MigrationPipeline(DataParser dataParser, Validator validator, TriggerMigrationService triggerService,
+                             Function<JobDto, Trigger> converter, MigrationSettings settings) {
+        this(dataParser, validator, triggerService, converter, job -> false, settings);
+    }
+
+
+
+    public MigrationPipeline(DataParser dataParser, Validator validator, TriggerMigrationService triggerService,
+                             Function<JobDto, Trigger> converter, Predicate<JobDto> alreadyMigrated, MigrationSettings settings) {
+        this(dataParser, validator, triggerService, converter, alreadyMigrated, settings, MigrationMetrics.DISABLED);
+    }
+
+
+
+    public MigrationPipeline(DataParser dataParser, Validator validator, TriggerMigrationService triggerService,
+                             Function<JobDto, Trigger> converter, Predicate<JobDto> alreadyMigrated, MigrationSettings settings,
+                             MigrationMetrics metrics) {
+        this.dataParser = dataParser;
+        this.validator = validator;
+        this.triggerService = triggerService;
+        this.converter = converter;
+        this.alreadyMigrated = alreadyMigrated;
+        this.settings = settings;
+        this.metrics = metrics;
+    }
+
+
+
+    public MigrationResult run(List<String> filePaths) {
+        int parseWorkers = Math.max(1, Math.min(settings.getParseParallelism(), filePaths.size()));
+        int migrateWorkers = Math.max(1, settings.getMigrationParallelism());
+        log.info("Starting pipelined migration: {} files, {} parse workers, {} migrate workers, queue capacity {}",
+                filePaths.size(), parseWorkers, migrateWorkers, settings.getQueueCapacity());
+
+        ExecutorService executor = Executors.newFixedThreadPool(parseWorkers + migrateWorkers);
+        try {
+            List<JobDto> jobs = parseAndCollect(filePaths, parseWorkers, executor);
+            validateOrThrow(jobs);
+
+            long start = metrics.startTimer();
+            MigrationResult result = convertAndMigrate(jobs, migrateWorkers, executor);
+            metrics.recordStage(MigrationMetrics.MIGRATE, start);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MigrationException("Pipelined migration interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+
+    private List<JobDto> parseAndCollect(List<String> filePaths, int workers, ExecutorService executor) throws InterruptedException {
+        BlockingQueue<JobDto> parsed = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+        Queue<String> pending = new ConcurrentLinkedQueue<>(filePaths);
+        Histogram parsedDepth = metrics.queueDepth("parsed");
+
+        List<JobDto> jobs = new ArrayList<>();
+        List<Future<?>> parsers = new ArrayList<>();
+        try (PoolUsage usage = metrics.pool(MigrationMetrics.PARSE, workers)) {
+            for (int i = 0; i < workers; i++) {
+                parsers.add(executor.submit(usage.wrap(() -> parseStage(pending, parsed, usage))));
+            }
+
+            int finishedWorkers = 0;
+            while (finishedWorkers < workers) {
+                JobDto job = parsed.take();
+                parsedDepth.record(parsed.size());
+                if (job == END_OF_JOBS) {
+                    finishedWorkers++;
+                } else {
+                    jobs.add(job);
+                }
+            }
+        }
+        awaitStage(parsers, "Parse stage failed");
+
+        log.info("Parse stage finished: {} jobs from {} files", jobs.size(), filePaths.size());
+        return jobs;
+    }
+
+
+
+    /* The end marker is posted however the worker stops, so the collector always sees every worker finish. */
+    private void parseStage(Queue<String> pending, BlockingQueue<JobDto> parsed, PoolUsage usage) {
+        try {
+            String path;
+            while ((path = pending.poll()) != null) {
+                parseFile(path, parsed, usage);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                parsed.put(END_OF_JOBS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+
+    private void parseFile(String path, BlockingQueue<JobDto> parsed, PoolUsage usage) throws InterruptedException {
+        log.info("[{}] Parsing: {}", Thread.currentThread().getName(), path);
+
+        FileParseEvent event = FileParseEvent.start();
+        List<JobDto> fileJobs;
+        try (Stream<JobDto> jobs = dataParser.stream(path)) {
+            fileJobs = jobs.toList();
+            event.finish(path, fileJobs.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to parse {}: {}", path, e.getMessage());
+            return;
+        }
+
+        for (JobDto job : fileJobs) {
+            if (!parsed.offer(job)) {
+                long blocked = metrics.startTimer();
+                parsed.put(job);
+                usage.idle(metrics.startTimer() - blocked);
+            }
+        }
+    }
+
+
+
+    private void validateOrThrow(List<JobDto> jobs) {
+        ValidationResult validation = validator.validate(ExportDataDto.builder().jobs(jobs).build());
+        log.info("Validation result:\n{}", validation);
+
+        if (!validation.isValid()) {
+            log.error("Validation failed. Migration aborted.");
+            throw new ValidationException("Validation failed:\n" + validation);
+        }
+    }
+
+
+
+    private MigrationResult convertAndMigrate(List<JobDto> jobs, int workers, ExecutorService executor) throws InterruptedException {
+        BlockingQueue<Trigger> converted = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+        Histogram convertedDepth = metrics.queueDepth("converted");
+        List<Future<MigrationOutcome>> outcomes = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+
+        MigrationResult result;
+        try (PoolUsage usage = metrics.pool(MigrationMetrics.MIGRATE, workers)) {
+            for (int i = 0; i < workers; i++) {
+                outcomes.add(executor.submit(usage.wrap(() -> migrateStage(converted, usage))));
+            }
+
+            for (JobDto job : jobs) {
+                if (alreadyMigrated.test(job)) {
+                    skipped.add(job.getJobName());
+                } else {
+                    put(converted, converter.apply(job), outcomes);
+                    convertedDepth.record(converted.size());
+                }
+            }
+            for (int i = 0; i < workers; i++) {
+                put(converted, END_OF_TRIGGERS, outcomes);
+            }
+
+            result = mergeOutcomes(outcomes);
+        }
+
+        if (!skipped.isEmpty()) {
+            log.info("Skipped {} jobs migrated before resume", skipped.size());
+            skipped.forEach(jobName -> result.getSuccesses().putIfAbsent(jobName, ALREADY_MIGRATED));
+        }
+        return result;
+    }
+
+
+
+    /* Migrate workers only return after an end marker, so one that is done while triggers are still coming has died. */
+    private void put(BlockingQueue<Trigger> converted, Trigger trigger, List<Future<MigrationOutcome>> workers) throws InterruptedException {
+        while (!converted.offer(trigger, LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+            for (Future<MigrationOutcome> worker : workers) {
+                if (worker.isDone()) {
+                    awaitStage(List.of(worker), "Migrate stage failed");
+                    throw new MigrationException("Migrate stage stopped before the end of its input");
+                }
+            }
+        }
+    }
+
+
+
+    private static void awaitStage(List<? extends Future<?>> workers, String failure) throws InterruptedException {
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new MigrationException(failure, e.getCause());
+            }
+        }
+    }
+
+
+
+    private MigrationOutcome migrateStage(BlockingQueue<Trigger> converted, PoolUsage usage) throws InterruptedException {
+        MigrationOutcome outcome = MigrationOutcome.empty();
+
+        Trigger trigger;
+        while ((trigger = take(converted, usage)) != END_OF_TRIGGERS) {
+            try {
+                triggerService.analyzeAndMigrate(trigger, outcome);
+            } catch (RuntimeException e) {
+                log.error("Unexpected failure migrating trigger {}: {}", trigger.getJobName(), e.getMessage());
+                outcome.result().addFailure(trigger, e.getMessage());
+            }
+        }
+
+        return outcome;
+    }
+
+
+
+    private Trigger take(BlockingQueue<Trigger> converted, PoolUsage usage) throws InterruptedException {
+        Trigger trigger = converted.poll();
+        if (trigger == null) {
+            long blocked = metrics.startTimer();
+            trigger = converted.take();
+            usage.idle(metrics.startTimer() - blocked);
+        }
+        return trigger;
+    }
+
+
+
+    private MigrationResult mergeOutcomes(List<Future<MigrationOutcome>> outcomes) throws InterruptedException {
+        MigrationOutcome merged = MigrationOutcome.empty();
+
+        for (Future<MigrationOutcome> future : outcomes) {
+            try {
+                merged.merge(future.get());
+            } catch (ExecutionException e) {
+                throw new MigrationException("Migrate stage failed", e.getCause());
+            }
+        }
+
+        merged.analysis().printReport();
+        return merged.result();
+    }
+}
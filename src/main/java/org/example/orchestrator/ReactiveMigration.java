@@ -0,0 +1,160 @@
+package org.example.orchestrator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.MigrationSettings;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
+import org.example.dto.internal.Trigger;
+import org.example.dto.internal.ValidationResult;
+import org.example.exception.MigrationException;
+import org.example.exception.ValidationException;
+import org.example.metrics.MigrationMetrics;
+import org.example.parser.BatchFileParser;
+import org.example.report.MigrationOutcome;
+import org.example.report.MigrationResult;
+import org.example.service.MigrationSubscriber;
+import org.example.service.TriggerMigrationService;
+import org.example.validator.Validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+
+/*
+ * Runs a migration off the parser's job publisher, with demand flowing back from the writers:
+ * parsing never gets more than queueCapacity jobs ahead of the output, so a slow disk throttles
+ * the parsers instead of filling the heap.
+ *
+ * Nothing may be written for an export that fails validation, and dependency validation needs
+ * every job, so the files are published twice. The first pass keeps only what the validator
+ * looks at (ids, names, trigger type and dependencies); the second migrates the full jobs. That
+ * trades a second parse for never holding the complete export in memory. A file that fails to
+ * parse fails the run on either pass, so the migrate pass can never see jobs the validation pass
+ * did not.
+ */
+@Slf4j
+public class ReactiveMigration {
+
+    private static final String ALREADY_MIGRATED = "Migrated before resume";
+
+    private final BatchFileParser batchParser;
+    private final Validator validator;
+    private final TriggerMigrationService triggerService;
+    private final Function<JobDto, Trigger> converter;
+    private final Predicate<JobDto> alreadyMigrated;
+    private final MigrationSettings settings;
+    private final MigrationMetrics metrics;
+
+
+
+    public ReactiveMigration(BatchFileParser batchParser, Validator validator, TriggerMigrationService triggerService,
+                             Function<JobDto, Trigger> converter, Predicate<JobDto> alreadyMigrated, MigrationSettings settings,
+                             MigrationMetrics metrics) {
+        this.batchParser = batchParser;
+        this.validator = validator;
+        this.triggerService = triggerService;
+        this.converter = converter;
+        this.alreadyMigrated = alreadyMigrated;
+        this.settings = settings;
+        this.metrics = metrics;
+    }
+
+
+
+    public MigrationResult run(List<String> filePaths) {
+        log.info("Starting reactive migration: {} files, {} jobs requested ahead", filePaths.size(), settings.getQueueCapacity());
+        Flow.Publisher<JobDto> jobs = batchParser.publish(filePaths);
+
+        StubCollector stubs = new StubCollector();
+        jobs.subscribe(stubs);
+        validateOrThrow(await(stubs.completion));
+
+        long start = metrics.startTimer();
+        MigrationSubscriber subscriber = triggerService.subscriber(converter, alreadyMigrated, settings.getQueueCapacity());
+        jobs.subscribe(subscriber);
+        MigrationOutcome outcome = await(subscriber.completion());
+        metrics.recordStage(MigrationMetrics.MIGRATE, start);
+
+        outcome.analysis().printReport();
+        MigrationResult result = outcome.result();
+        List<String> skipped = subscriber.skipped();
+        if (!skipped.isEmpty()) {
+            log.info("Skipped {} jobs migrated before resume", skipped.size());
+            skipped.forEach(jobName -> result.getSuccesses().putIfAbsent(jobName, ALREADY_MIGRATED));
+        }
+        return result;
+    }
+
+
+
+    private void validateOrThrow(List<JobDto> jobs) {
+        log.info("Collected {} jobs for validation", jobs.size());
+        ValidationResult validation = validator.validate(ExportDataDto.builder().jobs(jobs).build());
+        log.info("Validation result:\n{}", validation);
+
+        if (!validation.isValid()) {
+            log.error("Validation failed. Migration aborted.");
+            throw new ValidationException("Validation failed:\n" + validation);
+        }
+    }
+
+
+
+    private static <T> T await(CompletableFuture<T> completion) {
+        try {
+            return completion.join();
+        } catch (CompletionException e) {
+            throw new MigrationException("Reactive migration failed", e.getCause());
+        }
+    }
+
+
+
+    /* Takes every job at once; a stub is a few dozen bytes however large the job it stands for. */
+    private static final class StubCollector implements Flow.Subscriber<JobDto> {
+
+        private final List<JobDto> stubs = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<List<JobDto>> completion = new CompletableFuture<>();
+
+
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+
+
+        @Override
+        public void onNext(JobDto job) {
+            stubs.add(JobDto.builder()
+                    .jobId(job.getJobId())
+                    .jobName(job.getJobName())
+                    .system(job.getSystem())
+                    .trigger(job.getTrigger() == null ? null : TriggerDto.builder().type(job.getTrigger().getType()).build())
+                    .dependencies(job.getDependencies())
+                    .build());
+        }
+
+
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+
+
+        @Override
+        public void onComplete() {
+            completion.complete(new ArrayList<>(stubs));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.output;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.exception.MigrationException;
+import org.example.manifest.MigrationCheckpoint;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+
+/*
+ * Records the id of every job the wrapped sink has written and saves "<output folder>_checkpoint.bin"
+ * at most once per interval, plus once more on flush when jobs were added since the last save. The ids are snapshotted before the wrapped
+ * sink is flushed, so a checkpoint only lists jobs the wrapped sink has flushed. That makes the
+ * checkpoint as durable as the sink's flush: FilePerJobSink forces every job to disk when it is
+ * created as durable, which MigrationDependencies does whenever checkpoints are kept.
+ * When resuming, the previous checkpoint is carried over so a second crash loses nothing either.
+ */
+@Slf4j
+public class CheckpointingOutputSink implements OutputSink {
+
+    private final OutputSink delegate;
+    private final boolean resume;
+    private final long intervalNanos;
+    private final LongSupplier clock;
+    private final Map<Path, FolderCheckpoint> checkpointsByFolder = new ConcurrentHashMap<>();
+
+
+
+    public CheckpointingOutputSink(OutputSink delegate, boolean resume, int intervalSeconds) {
+        this(delegate, resume, TimeUnit.SECONDS.toNanos(intervalSeconds), System::nanoTime);
+    }
+
+
+
+    public CheckpointingOutputSink(OutputSink delegate, boolean resume, long intervalNanos, LongSupplier clock) {
+        this.delegate = delegate;
+        this.resume = resume;
+        this.intervalNanos = intervalNanos;
+        this.clock = clock;
+    }
+
+
+
+    @Override
+    public void write(Trigger trigger, RedwoodJobDto job) throws MigrationException {
+        delegate.write(trigger, job);
+        if (job == null || trigger.getOutputFolderPath() == null || trigger.getJobId() == null) {
+            return;
+        }
+
+        FolderCheckpoint folder = checkpointFor(trigger.getOutputFolderPath());
+        folder.checkpoint.add(trigger.getJobId());
+
+        long now = clock.getAsLong();
+        long lastSave = folder.lastSave.get();
+        if (now - lastSave >= intervalNanos && folder.lastSave.compareAndSet(lastSave, now)) {
+            save(folder);
+        }
+    }
+
+
+
+    private FolderCheckpoint checkpointFor(String outputFolderPath) {
+        return checkpointsByFolder.computeIfAbsent(Paths.get(outputFolderPath), folder -> {
+            Path path = MigrationCheckpoint.pathFor(outputFolderPath);
+            MigrationCheckpoint checkpoint = resume ? MigrationCheckpoint.load(path) : new MigrationCheckpoint();
+            return new FolderCheckpoint(path, checkpoint, new AtomicLong(clock.getAsLong()), new AtomicInteger(checkpoint.size()));
+        });
+    }
+
+
+
+    /*
+     * A periodic save and the final one on flush may race; both share the temporary file. The set
+     * only grows, so an unchanged size means nothing new to save, and a checkpoint the orchestrator
+     * removed after a completed run is not written again when the sink is closed.
+     */
+    private void save(FolderCheckpoint folder) {
+        synchronized (folder) {
+            int[] jobIds = folder.checkpoint.snapshot();
+            if (jobIds.length == folder.savedJobs.get()) {
+                return;
+            }
+
+            try {
+                delegate.flush();
+                MigrationCheckpoint.save(folder.path, jobIds);
+                folder.savedJobs.set(jobIds.length);
+                log.debug("Checkpointed {} migrated jobs to {}", jobIds.length, folder.path);
+            } catch (IOException e) {
+                log.warn("Failed to write checkpoint {}: {}", folder.path, e.getMessage());
+            }
+        }
+    }
+
+
+
+    @Override
+    public boolean supportsIncremental() {
+        return delegate.supportsIncremental();
+    }
+
+
+
+    @Override
+    public void remove(Trigger trigger) throws MigrationException {
+        delegate.remove(trigger);
+    }
+
+
+
+    @Override
+    public long bytesWritten() {
+        return delegate.bytesWritten();
+    }
+
+
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+        for (FolderCheckpoint folder : checkpointsByFolder.values()) {
+            save(folder);
+        }
+    }
+
+
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+
+
+    private record FolderCheckpoint(Path path, MigrationCheckpoint checkpoint, AtomicLong lastSave, AtomicInteger savedJobs) {
+    }
+}
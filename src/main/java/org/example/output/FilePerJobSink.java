@@ -0,0 +1,184 @@
+package org.example.output;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.exception.MigrationException;
+import org.example.metrics.jfr.OutputWriteEvent;
+import org.example.utils.FileUtils;
+import org.example.utils.JsonCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/*
+ * One JSON document per job in the trigger's output folder. Jobs are serialized straight into a
+ * pooled byte buffer and written with a single channel write; output directories are created
+ * once per run instead of being checked for every job.
+ *
+ * A job always lands at the same JobFileLayout path and a rewrite replaces it, so reruns, resumed
+ * runs and incremental runs update or remove individual jobs instead of piling up copies. Each
+ * job is written to a temporary file private to the writing thread and renamed into place, so two
+ * writers aiming at the same file never interleave and readers never see a partial document.
+ *
+ * A durable sink, used whenever a checkpoint or an incremental manifest is kept, also forces each
+ * job's content to disk before the rename and syncs the directories it renamed into or removed
+ * from on flush, so a job is on disk before any checkpoint or manifest saved after it can list it.
+ */
+@Slf4j
+public class FilePerJobSink implements OutputSink {
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final JobFileLayout layout;
+    private final boolean durable;
+    private final JsonCodec codec;
+    private final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+    private final Set<Path> unsyncedDirectories = ConcurrentHashMap.newKeySet();
+    private final LongAdder bytesWritten = new LongAdder();
+
+
+
+    public FilePerJobSink() {
+        this(JobFileLayout.FLAT);
+    }
+
+
+
+    public FilePerJobSink(JobFileLayout layout) {
+        this(layout, false);
+    }
+
+
+
+    public FilePerJobSink(JobFileLayout layout, boolean durable) {
+        this(layout, durable, JsonCodec.JACKSON);
+    }
+
+
+
+    public FilePerJobSink(JobFileLayout layout, boolean durable, JsonCodec codec) {
+        this.layout = layout;
+        this.durable = durable;
+        this.codec = codec;
+    }
+
+
+
+    @Override
+    public void write(Trigger trigger, RedwoodJobDto job) throws MigrationException {
+        if (job == null || trigger.getOutputFolderPath() == null) {
+            log.debug("No output folder for job {}, skipping write", trigger.getJobName());
+            return;
+        }
+
+        Path file = layout.resolve(Paths.get(trigger.getOutputFolderPath()), trigger, job.getName());
+        Path temp = file.resolveSibling(file.getFileName() + "." + Thread.currentThread().getId() + TEMP_FILE_SUFFIX);
+
+        OutputWriteEvent event = OutputWriteEvent.start();
+        try {
+            ensureDirectory(file.getParent());
+            ByteBuffer content = SerializationBuffer.serialize(job, codec).asByteBuffer();
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                if (durable) {
+                    channel.force(true);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (durable) {
+                unsyncedDirectories.add(file.getParent());
+            }
+            bytesWritten.add(content.limit());
+            event.finish(OutputLayout.FILE_PER_JOB.name(), job.getName(), content.limit());
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new MigrationException("Failed to write Redwood job " + job.getName() + " to " + file, e);
+        }
+    }
+
+
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+
+
+    @Override
+    public boolean supportsIncremental() {
+        return true;
+    }
+
+
+
+    @Override
+    public void remove(Trigger trigger) throws MigrationException {
+        if (trigger.getOutputFolderPath() == null) {
+            return;
+        }
+
+        Path file = layout.resolve(Paths.get(trigger.getOutputFolderPath()), trigger, trigger.getJobName());
+        try {
+            if (Files.deleteIfExists(file) && durable) {
+                unsyncedDirectories.add(file.getParent());
+            }
+        } catch (IOException e) {
+            throw new MigrationException("Failed to remove Redwood job " + trigger.getJobName() + " at " + file, e);
+        }
+    }
+
+
+
+    private static void deleteQuietly(Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.debug("Could not remove temporary file {}: {}", temp, e.getMessage());
+        }
+    }
+
+
+
+    private void ensureDirectory(Path folder) throws IOException {
+        if (createdDirectories.contains(folder)) {
+            return;
+        }
+
+        Files.createDirectories(folder);
+        createdDirectories.add(folder);
+    }
+
+
+
+    /* Writes are complete when write() returns; a durable sink only has renames left to sync. */
+    @Override
+    public void flush() {
+        for (Path directory : unsyncedDirectories) {
+            unsyncedDirectories.remove(directory);
+            FileUtils.syncDirectory(directory);
+        }
+    }
+
+
+
+    @Override
+    public void close() {
+        createdDirectories.clear();
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.output;
+
+import org.example.dto.internal.Trigger;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+
+import static org.example.utils.Constants.JSON_FILE_EXTENSION;
+
+
+/*
+ * Where a job's file lives below its output folder:
+ *
+ *   [<shard>/][<bucket>/]<name>_<jobId>.json
+ *
+ * The shard is the job's system, trigger type or the first characters of its name; the bucket is
+ * the job id modulo a fixed fan-out, as hex. Either level keeps directories small when an export
+ * has hundreds of thousands of jobs. Only fields carried by the trigger decide the path, so
+ * reruns, resumed runs and removals of a job always agree on it. Jobs without an id are bucketed
+ * by name. Path segments and the file name come from export data, so anything but letters,
+ * digits, '-' and '_' is replaced; the _<jobId> suffix keeps sanitized names apart.
+ */
+public final class JobFileLayout {
+
+    public static final JobFileLayout FLAT = new JobFileLayout(OutputSharding.NONE, 0);
+
+    private static final int NAME_PREFIX_LENGTH = 2;
+    private static final String MISSING_SEGMENT = "_none";
+
+    private final OutputSharding sharding;
+    private final int fanOut;
+    private final String bucketFormat;
+
+
+
+    public JobFileLayout(int fanOut) {
+        this(OutputSharding.NONE, fanOut);
+    }
+
+
+
+    public JobFileLayout(OutputSharding sharding, int fanOut) {
+        this.sharding = sharding;
+        this.fanOut = Math.max(0, fanOut);
+        int digits = Math.max(2, Integer.toHexString(Math.max(1, this.fanOut - 1)).length());
+        this.bucketFormat = "%0" + digits + "x";
+    }
+
+
+
+    /* The name is sanitized like any other segment, so it can neither add directories nor climb out of the folder. */
+    public String fileName(Trigger trigger, String jobName) {
+        String name = segment(jobName);
+        return trigger.getJobId() == null ? name + JSON_FILE_EXTENSION : name + "_" + trigger.getJobId() + JSON_FILE_EXTENSION;
+    }
+
+
+
+    /* Relative path with '/' separators, usable both on disk and as a zip entry name. */
+    public String relativePath(Trigger trigger, String jobName) {
+        StringBuilder path = new StringBuilder();
+
+        if (sharding != OutputSharding.NONE) {
+            path.append(shard(trigger, jobName)).append('/');
+        }
+        if (fanOut > 0) {
+            int key = trigger.getJobId() != null ? trigger.getJobId() : Objects.hashCode(jobName);
+            path.append(String.format(bucketFormat, Math.floorMod(key, fanOut))).append('/');
+        }
+
+        return path.append(fileName(trigger, jobName)).toString();
+    }
+
+
+
+    public Path resolve(Path folder, Trigger trigger, String jobName) {
+        return folder.resolve(relativePath(trigger, jobName));
+    }
+
+
+
+    private String shard(Trigger trigger, String jobName) {
+        return switch (sharding) {
+            case SYSTEM -> segment(trigger.getSystem());
+            case TRIGGER_TYPE -> segment(trigger.getType() == null ? null : trigger.getType().name().toLowerCase(Locale.ROOT));
+            case NAME_PREFIX -> segment(jobName == null ? null : jobName.substring(0, Math.min(NAME_PREFIX_LENGTH, jobName.length())).toLowerCase(Locale.ROOT));
+            case NONE -> "";
+        };
+    }
+
+
+
+    private static String segment(String value) {
+        if (value == null || value.isBlank()) {
+            return MISSING_SEGMENT;
+        }
+
+        StringBuilder segment = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            segment.append(Character.isLetterOrDigit(c) || c == '-' || c == '_' ? c : '_');
+        }
+        return segment.toString();
+    }
+}
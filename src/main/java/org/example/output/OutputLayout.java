@@ -0,0 +1,7 @@
+package org.example.output;
+
+public enum OutputLayout {
+    FILE_PER_JOB,
+    NDJSON_SHARDS,
+    ARCHIVE
+}
@@ -0,0 +1,12 @@
+package org.example.output;
+
+/*
+ * First directory level of the file-per-job and archive layouts. A hash fan-out by job id can be
+ * added beneath any of these.
+ */
+public enum OutputSharding {
+    NONE,
+    SYSTEM,
+    TRIGGER_TYPE,
+    NAME_PREFIX
+}
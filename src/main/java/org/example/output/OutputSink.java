@@ -0,0 +1,33 @@
+package org.example.output;
+
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.exception.MigrationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/*
+ * Destination for migrated Redwood jobs. Implementations must be safe for concurrent writers.
+ */
+public interface OutputSink extends Closeable {
+
+    void write(Trigger trigger, RedwoodJobDto job) throws MigrationException;
+
+    void flush() throws IOException;
+
+    /* Whether a job's output can be replaced or removed later, which incremental runs rely on. */
+    default boolean supportsIncremental() {
+        return false;
+    }
+
+    /* Serialized bytes handed to this sink so far, before any compression; 0 when not tracked. */
+    default long bytesWritten() {
+        return 0;
+    }
+
+    /* Sinks that cannot remove fail with a MigrationException, which incremental runs log and skip. */
+    default void remove(Trigger trigger) throws MigrationException {
+        throw new MigrationException(getClass().getSimpleName() + " cannot remove migrated jobs");
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.output;
+
+import org.example.dto.output.RedwoodJobDto;
+import org.example.utils.JsonCodec;
+import org.example.utils.JsonUtils;
+import org.example.utils.ZipWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+
+/* Per-thread reusable buffer jobs are serialized into, so no intermediate String is built. */
+final class SerializationBuffer extends ByteArrayOutputStream {
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<SerializationBuffer> POOL = ThreadLocal.withInitial(SerializationBuffer::new);
+
+
+
+    private SerializationBuffer() {
+        super(INITIAL_CAPACITY);
+    }
+
+
+
+    static SerializationBuffer serialize(RedwoodJobDto job, JsonCodec codec) throws IOException {
+        SerializationBuffer buffer = POOL.get();
+        if (buffer.buf.length > MAX_RETAINED_CAPACITY) {
+            buffer = new SerializationBuffer();
+            POOL.set(buffer);
+        }
+
+        buffer.reset();
+        JsonUtils.writeRedwoodJob(buffer, job, codec);
+        return buffer;
+    }
+
+
+
+    ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+
+
+
+    ZipWriter.Entry toZipEntry(int level) {
+        return ZipWriter.Entry.compress(buf, count, System.currentTimeMillis(), level);
+    }
+}
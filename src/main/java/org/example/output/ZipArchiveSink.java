@@ -0,0 +1,189 @@
+package org.example.output;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.exception.MigrationException;
+import org.example.metrics.jfr.OutputWriteEvent;
+import org.example.utils.JsonCodec;
+import org.example.utils.ParallelZipArchiver;
+import org.example.utils.ZipWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.example.utils.Constants.ARCHIVE_FILE_EXTENSION;
+import static org.example.utils.Constants.JSON_FILE_EXTENSION;
+
+
+/*
+ * Writes each job as an entry of "<output folder>_archive.zip" while migrating, producing the same
+ * archive the post-migration zip step would, without writing the job files to disk and reading
+ * them back. Entry names, subdirectories included, follow the file-per-job layout.
+ *
+ * Each worker deflates its own entry; the archive lock is held only to pick a unique name and
+ * copy the compressed bytes in, so migrate workers are not serialized behind compression.
+ */
+@Slf4j
+public class ZipArchiveSink implements OutputSink {
+
+    private static final int ARCHIVE_BUFFER_SIZE = 256 * 1024;
+
+    private final JobFileLayout layout;
+    private final JsonCodec codec;
+    private final Map<Path, Archive> archivesByFolder = new ConcurrentHashMap<>();
+    private final LongAdder bytesWritten = new LongAdder();
+
+
+
+    public ZipArchiveSink() {
+        this(JobFileLayout.FLAT);
+    }
+
+
+
+    public ZipArchiveSink(JobFileLayout layout) {
+        this(layout, JsonCodec.JACKSON);
+    }
+
+
+
+    public ZipArchiveSink(JobFileLayout layout, JsonCodec codec) {
+        this.layout = layout;
+        this.codec = codec;
+    }
+
+
+
+    @Override
+    public void write(Trigger trigger, RedwoodJobDto job) throws MigrationException {
+        if (job == null || trigger.getOutputFolderPath() == null) {
+            log.debug("No output folder for job {}, skipping write", trigger.getJobName());
+            return;
+        }
+
+        Path folder = Paths.get(trigger.getOutputFolderPath());
+
+        OutputWriteEvent event = OutputWriteEvent.start();
+        try {
+            SerializationBuffer buffer = SerializationBuffer.serialize(job, codec);
+            ZipWriter.Entry entry = buffer.toZipEntry(ParallelZipArchiver.DEFAULT_LEVEL);
+            Archive archive = archiveFor(folder);
+
+            synchronized (archive) {
+                archive.zip.write(archive.uniqueEntryName(layout.relativePath(trigger, job.getName())), entry);
+            }
+            bytesWritten.add(buffer.size());
+            event.finish(OutputLayout.ARCHIVE.name(), job.getName(), buffer.size());
+        } catch (IOException e) {
+            throw new MigrationException("Failed to archive Redwood job " + job.getName() + " for " + folder, e);
+        }
+    }
+
+
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+
+
+    public static Path archivePathFor(Path folder) {
+        return Paths.get(folder + ARCHIVE_FILE_EXTENSION);
+    }
+
+
+
+    private Archive archiveFor(Path folder) throws IOException {
+        Archive archive = archivesByFolder.get(folder);
+        return archive != null ? archive : openArchive(folder);
+    }
+
+
+
+    private synchronized Archive openArchive(Path folder) throws IOException {
+        Archive existing = archivesByFolder.get(folder);
+        if (existing != null) {
+            return existing;
+        }
+
+        Path archivePath = archivePathFor(folder);
+        if (archivePath.getParent() != null) {
+            Files.createDirectories(archivePath.getParent());
+        }
+
+        Archive archive = new Archive(new ZipWriter(new BufferedOutputStream(Files.newOutputStream(archivePath), ARCHIVE_BUFFER_SIZE)));
+        log.info("Writing migrated jobs directly to {}", archivePath);
+        archivesByFolder.put(folder, archive);
+        return archive;
+    }
+
+
+
+    @Override
+    public void flush() throws IOException {
+        for (Archive archive : archivesByFolder.values()) {
+            synchronized (archive) {
+                archive.zip.flush();
+            }
+        }
+    }
+
+
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+
+        for (Archive archive : archivesByFolder.values()) {
+            try {
+                synchronized (archive) {
+                    archive.zip.close();
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        archivesByFolder.clear();
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+
+
+    /* Zip entry names must be unique; jobs sharing a name and id get a counter suffix. */
+    private static final class Archive {
+
+        private final ZipWriter zip;
+        private final Set<String> entryNames = new HashSet<>();
+
+
+
+        private Archive(ZipWriter zip) {
+            this.zip = zip;
+        }
+
+
+
+        private String uniqueEntryName(String fileName) {
+            String base = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+            String name = fileName;
+
+            for (int i = 1; !entryNames.add(name); i++) {
+                name = base + "_" + i + JSON_FILE_EXTENSION;
+            }
+            return name;
+        }
+    }
+}
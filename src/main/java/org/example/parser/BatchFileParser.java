@@ -4,9 +4,16 @@ import org.example.dto.input.JobDto;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 public interface BatchFileParser {
     CompletableFuture<List<JobDto>> parseMultipleFiles(List<String> filePaths);
 
+    /* One future per file, in order; a file that cannot be parsed fails its future instead of being skipped. */
+    List<CompletableFuture<List<JobDto>>> parseEach(List<String> filePaths);
+
+    /* Jobs of all files as the subscriber asks for them; parsing never runs ahead of its demand. */
+    Flow.Publisher<JobDto> publish(List<String> filePaths);
+
     void shutdown();
 }
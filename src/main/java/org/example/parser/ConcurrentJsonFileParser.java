@@ -3,35 +3,84 @@ package org.example.parser;
 import lombok.extern.slf4j.Slf4j;
 import org.example.dto.input.ExportDataDto;
 import org.example.dto.input.JobDto;
+import org.example.metrics.jfr.FileParseEvent;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
+/*
+ * PLATFORM reads and parses each file on one fixed pool, streaming straight from disk.
+ *
+ * VIRTUAL splits the two: a virtual thread per file reads it into memory, then Jackson binds the
+ * bytes on a CPU-sized pool. A file holds an open-file permit and a share of the buffer budget
+ * from opening until it is parsed, so at most maxOpenFiles files and maxBufferedMegabytes of raw
+ * content are held at once however slow the storage is. Files larger than the whole budget are
+ * streamed from disk on the parse pool instead. Only unreadable or malformed files are skipped;
+ * anything else, an OutOfMemoryError included, fails the batch. Virtual threads need Java 21; on
+ * older runtimes the reads fall back to a platform pool of maxOpenFiles threads.
+ */
 @Slf4j
 public class ConcurrentJsonFileParser implements BatchFileParser {
 
+    public static final int DEFAULT_MAX_OPEN_FILES = 64;
+    public static final int DEFAULT_MAX_BUFFERED_MEGABYTES = 256;
+
+    /* Budget permits are kilobytes, so it has to stay below 2 GB, which is also readAllBytes' limit. */
+    private static final int MAX_BUFFERED_MEGABYTES = 2047;
+
     private final ExecutorService executor;
+    private final int parseThreads;
+    private final ExecutorService readExecutor;
+    private final Semaphore openFiles;
+    private final Semaphore bufferedKilobytes;
+    private final long maxBufferedBytes;
     private final DataParser parser;
 
 
 
     public ConcurrentJsonFileParser() {
-        this(new JsonFileParser());
+        this(new StreamingJsonFileParser());
     }
 
 
 
     public ConcurrentJsonFileParser(DataParser parser) {
-        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
-        this.executor = Executors.newFixedThreadPool(threads);
+        this(parser, FileReadMode.PLATFORM, Math.min(4, Runtime.getRuntime().availableProcessors()), DEFAULT_MAX_OPEN_FILES);
+    }
+
+
+
+    public ConcurrentJsonFileParser(DataParser parser, FileReadMode mode, int parseThreads, int maxOpenFiles) {
+        this(parser, mode, parseThreads, maxOpenFiles, DEFAULT_MAX_BUFFERED_MEGABYTES);
+    }
+
+
+
+    public ConcurrentJsonFileParser(DataParser parser, FileReadMode mode, int parseThreads, int maxOpenFiles, int maxBufferedMegabytes) {
+        int bufferedMegabytes = Math.max(1, Math.min(maxBufferedMegabytes, MAX_BUFFERED_MEGABYTES));
+        this.executor = Executors.newFixedThreadPool(parseThreads);
+        this.parseThreads = parseThreads;
+        this.readExecutor = mode == FileReadMode.VIRTUAL ? newReadExecutor(maxOpenFiles) : null;
+        this.openFiles = new Semaphore(maxOpenFiles);
+        this.bufferedKilobytes = new Semaphore(bufferedMegabytes * 1024);
+        this.maxBufferedBytes = bufferedMegabytes * 1024L * 1024L;
         this.parser = parser;
-        log.info("Initialized concurrent parser with {} threads...", threads);
+        log.info("Initialized concurrent parser with {} threads, {} file reads, at most {} files and {} MB buffered...",
+                parseThreads, mode, maxOpenFiles, bufferedMegabytes);
     }
 
 
@@ -41,10 +90,7 @@ public class ConcurrentJsonFileParser implements BatchFileParser {
         log.info("Parsing {} files concurrently", filePaths.size());
 
         List<CompletableFuture<List<JobDto>>> futures = filePaths.stream()
-                .map(path -> CompletableFuture.supplyAsync(
-                        () -> parseFile(path),
-                        executor
-                ))
+                .map(path -> parseAsync(path).exceptionally(e -> skipUnreadable(path, e)))
                 .toList();
 
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
@@ -57,22 +103,167 @@ public class ConcurrentJsonFileParser implements BatchFileParser {
 
 
 
+    @Override
+    public List<CompletableFuture<List<JobDto>>> parseEach(List<String> filePaths) {
+        log.info("Parsing {} files concurrently", filePaths.size());
+        return filePaths.stream().map(this::parseAsync).toList();
+    }
+
+
+
+    /* Streams files on the parse pool; file reads are never buffered ahead, whatever the read mode. */
+    @Override
+    public Flow.Publisher<JobDto> publish(List<String> filePaths) {
+        return new ExportFilePublisher(parser, filePaths, executor, parseThreads);
+    }
+
+
+
+    private CompletableFuture<List<JobDto>> parseAsync(String filePath) {
+        return readExecutor == null ? CompletableFuture.supplyAsync(() -> parseFile(filePath), executor) : readThenParse(filePath);
+    }
+
+
+
     private List<JobDto> parseFile(String filePath) {
         try {
             log.info("[{}] Parsing: {}", Thread.currentThread().getName(), filePath);
 
+            FileParseEvent event = FileParseEvent.start();
             ExportDataDto export = parser.parse(filePath);
+            event.finish(filePath, export.getJobs().size());
             return export.getJobs();
 
         } catch (IOException e) {
-            log.error("Failed to parse {}: {}", filePath, e.getMessage());
-            return Collections.emptyList();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+
+    /* Permits are returned once the file is parsed or has failed, whatever it failed with. */
+    private CompletableFuture<List<JobDto>> readThenParse(String filePath) {
+        long size = sizeOf(filePath);
+        if (size > maxBufferedBytes) {
+            log.info("{} is larger than the {} MB read buffer budget, streaming it from disk", filePath, maxBufferedBytes >> 20);
+            return CompletableFuture.supplyAsync(() -> parseFile(filePath), executor);
+        }
+
+        int kilobytes = (int) Math.max(1, (size + 1023) / 1024);
+        AtomicBoolean held = new AtomicBoolean();
+        return CompletableFuture.supplyAsync(() -> {
+                    acquire(filePath, kilobytes);
+                    held.set(true);
+                    return readFile(filePath);
+                }, readExecutor)
+                .thenApplyAsync(content -> parseContent(filePath, content), executor)
+                .whenComplete((jobs, e) -> {
+                    if (held.get()) {
+                        bufferedKilobytes.release(kilobytes);
+                        openFiles.release();
+                    }
+                });
+    }
+
+
+
+    private void acquire(String filePath, int kilobytes) {
+        try {
+            openFiles.acquire();
+            try {
+                bufferedKilobytes.acquire(kilobytes);
+            } catch (InterruptedException e) {
+                openFiles.release();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting to open " + filePath, e);
+        }
+    }
+
+
+
+    private byte[] readFile(String filePath) {
+        try {
+            log.debug("[{}] Reading: {}", Thread.currentThread(), filePath);
+            return Files.readAllBytes(Paths.get(filePath));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+
+    /* Unreadable and malformed files are skipped; any other failure fails the batch. */
+    private List<JobDto> skipUnreadable(String filePath, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (!(cause instanceof UncheckedIOException)) {
+            throw failure instanceof CompletionException completion ? completion : new CompletionException(cause);
+        }
+
+        log.error("Failed to parse {}: {}", filePath, rootMessage(cause));
+        return Collections.emptyList();
+    }
+
+
+
+    private static long sizeOf(String filePath) {
+        try {
+            return Files.size(Paths.get(filePath));
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+
+
+    private List<JobDto> parseContent(String filePath, byte[] content) {
+        try {
+            log.info("[{}] Parsing: {}", Thread.currentThread().getName(), filePath);
+            FileParseEvent event = FileParseEvent.start();
+            List<JobDto> jobs = parser.parse(content, filePath).getJobs();
+            event.finish(filePath, content.length, jobs.size());
+            return jobs;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+
+
+    private static ExecutorService newReadExecutor(int maxOpenFiles) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads need Java 21+, reading files on {} platform threads instead", maxOpenFiles);
+            return Executors.newFixedThreadPool(maxOpenFiles);
         }
     }
 
 
 
     public void shutdown() {
+        if (readExecutor != null) {
+            shutdown(readExecutor);
+        }
+        shutdown(executor);
+    }
+
+
+
+    private static void shutdown(ExecutorService executor) {
         executor.shutdown();
         try {
             if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
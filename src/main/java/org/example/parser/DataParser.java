@@ -1,8 +1,22 @@
 package org.example.parser;
 
 import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.utils.JsonUtils;
+
 import java.io.IOException;
+import java.util.stream.Stream;
 
 public interface DataParser {
     ExportDataDto parse(String filePath) throws IOException;
+
+    /* Callers must close the returned stream; streaming implementations hold the file open until then. */
+    default Stream<JobDto> stream(String filePath) throws IOException {
+        return parse(filePath).getJobs().stream();
+    }
+
+    /* Content already read by the caller; source only names it in log and error messages. */
+    default ExportDataDto parse(byte[] content, String source) throws IOException {
+        return JsonUtils.readExport(content);
+    }
 }
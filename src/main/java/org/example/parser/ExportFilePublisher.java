@@ -0,0 +1,228 @@
+package org.example.parser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.JobDto;
+import org.example.exception.MigrationException;
+import org.example.metrics.jfr.FileParseEvent;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+
+/*
+ * Cold, unicast publisher of the jobs in a set of export files: every subscription streams the
+ * files again, on up to `workers` threads of the parser's pool. A worker only pulls the next job
+ * out of its file once the subscriber has demand for it, so a slow subscriber throttles parsing
+ * and no more jobs exist than the subscriber requested plus one per worker. Unlike
+ * parseMultipleFiles, a file that fails to parse ends the subscription with an error rather than
+ * being skipped: the jobs before the failure have already been emitted, and a subscriber must not
+ * treat that prefix as the file's complete content.
+ */
+@Slf4j
+final class ExportFilePublisher implements Flow.Publisher<JobDto> {
+
+    private final DataParser parser;
+    private final List<String> filePaths;
+    private final ExecutorService executor;
+    private final int workers;
+
+
+
+    ExportFilePublisher(DataParser parser, List<String> filePaths, ExecutorService executor, int workers) {
+        this.parser = parser;
+        this.filePaths = List.copyOf(filePaths);
+        this.executor = executor;
+        this.workers = Math.max(1, Math.min(workers, filePaths.size()));
+    }
+
+
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super JobDto> subscriber) {
+        FileSubscription subscription = new FileSubscription(Objects.requireNonNull(subscriber));
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+
+
+    private final class FileSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super JobDto> subscriber;
+        private final Queue<String> pending = new ConcurrentLinkedQueue<>(filePaths);
+        private final AtomicInteger running = new AtomicInteger(workers);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition demanded = lock.newCondition();
+        private long demand;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+
+
+        private FileSubscription(Flow.Subscriber<? super JobDto> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+
+
+        private void start() {
+            if (filePaths.isEmpty()) {
+                complete();
+                return;
+            }
+
+            for (int i = 0; i < workers; i++) {
+                executor.execute(this::drain);
+            }
+        }
+
+
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error(new IllegalArgumentException("Flow subscribers must request a positive number of jobs, got " + n));
+                cancel();
+                return;
+            }
+
+            lock.lock();
+            try {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+
+
+        private void drain() {
+            try {
+                String path;
+                while (!cancelled && (path = pending.poll()) != null) {
+                    publishFile(path);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            } catch (Error e) {
+                fail(e);
+                throw e;
+            } finally {
+                if (running.decrementAndGet() == 0) {
+                    complete();
+                }
+            }
+        }
+
+
+
+        private void publishFile(String path) throws InterruptedException {
+            log.info("[{}] Publishing: {}", Thread.currentThread().getName(), path);
+            FileParseEvent event = FileParseEvent.start();
+            int count = 0;
+
+            try (Stream<JobDto> jobs = parser.stream(path)) {
+                Iterator<JobDto> iterator = jobs.iterator();
+                while (iterator.hasNext() && awaitDemand()) {
+                    next(iterator.next());
+                    count++;
+                }
+                event.finish(path, count);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to parse {}, failing the subscription: {}", path, e.getMessage());
+                fail(new MigrationException("Failed to parse " + path, e));
+            }
+        }
+
+
+
+        /* Takes one unit of demand, waiting for the subscriber if there is none; false once cancelled. */
+        private boolean awaitDemand() throws InterruptedException {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled) {
+                    demanded.await();
+                }
+                if (cancelled) {
+                    return false;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+
+
+        /* Workers share one subscriber, so signals are serialized here. */
+        private synchronized void next(JobDto job) {
+            if (terminated || cancelled) {
+                return;
+            }
+
+            try {
+                subscriber.onNext(job);
+            } catch (RuntimeException e) {
+                log.error("Subscriber failed on job {}, cancelling: {}", job.getJobName(), e.getMessage());
+                fail(e);
+            }
+        }
+
+
+
+        private synchronized void complete() {
+            if (!terminated && !cancelled) {
+                terminated = true;
+                subscriber.onComplete();
+            }
+        }
+
+
+
+        private synchronized void error(Throwable failure) {
+            if (!terminated) {
+                terminated = true;
+                subscriber.onError(failure);
+            }
+        }
+
+
+
+        /* Failures of the publisher itself still end the subscription with a terminal signal. */
+        private void fail(Throwable failure) {
+            try {
+                error(failure);
+            } finally {
+                cancel();
+            }
+        }
+    }
+}
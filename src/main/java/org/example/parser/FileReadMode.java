@@ -0,0 +1,6 @@
+package org.example.parser;
+
+public enum FileReadMode {
+    PLATFORM,
+    VIRTUAL
+}
@@ -0,0 +1,59 @@
+package org.example.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.dto.input.JobDto;
+import org.example.utils.JsonCodec;
+import org.example.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+
+/* Hands out one JobDto per element of a "jobs" array the parser is already positioned inside. */
+final class JobSpliterator extends Spliterators.AbstractSpliterator<JobDto> {
+
+    private final JsonParser parser;
+    private final JsonCodec codec;
+    private boolean exhausted;
+
+
+
+    JobSpliterator(JsonParser parser, JsonCodec codec) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.parser = parser;
+        this.codec = codec;
+    }
+
+
+
+    @Override
+    public boolean tryAdvance(Consumer<? super JobDto> action) {
+        if (exhausted) {
+            return false;
+        }
+
+        try {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.END_ARRAY) {
+                exhausted = true;
+                return false;
+            }
+
+            if (token == null) {
+                throw new IOException("Unexpected end of input inside jobs array");
+            }
+
+            action.accept(JsonUtils.readJob(parser, codec));
+            return true;
+
+        } catch (IOException e) {
+            exhausted = true;
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -17,7 +17,7 @@ public class JsonFileParser implements DataParser {
     public ExportDataDto parse(String filePath) throws IOException {
         log.info("Parsing JSON file: {}", filePath);
 
-        ExportDataDto export = JsonUtils.parseJsonFile(filePath, ExportDataDto.class);
+        ExportDataDto export = JsonUtils.parseExportFile(filePath);
         log.info("Parsed {} jobs from {}", export.getJobs().size(), filePath);
 
         return export;
@@ -0,0 +1,95 @@
+package org.example.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+
+/*
+ * Sequential InputStream over a file mapped in SEGMENT_SIZE windows, each mapped only once the
+ * previous one is consumed. Mappings outlive the channel and are released when collected.
+ */
+final class MappedFileInputStream extends InputStream {
+
+    static final long SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long segmentSize;
+    private long nextSegment;
+    private MappedByteBuffer segment;
+
+
+
+    MappedFileInputStream(FileChannel channel, long segmentSize) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.segmentSize = segmentSize;
+    }
+
+
+
+    @Override
+    public int read() throws IOException {
+        return hasRemaining() ? segment.get() & 0xFF : -1;
+    }
+
+
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!hasRemaining()) {
+            return -1;
+        }
+
+        int count = Math.min(length, segment.remaining());
+        segment.get(buffer, offset, count);
+        return count;
+    }
+
+
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && hasRemaining()) {
+            int step = (int) Math.min(n - skipped, segment.remaining());
+            segment.position(segment.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+
+
+    @Override
+    public int available() throws IOException {
+        return hasRemaining() ? segment.remaining() : 0;
+    }
+
+
+
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+
+
+
+    private boolean hasRemaining() throws IOException {
+        while (segment == null || !segment.hasRemaining()) {
+            if (nextSegment >= size) {
+                return false;
+            }
+            long length = Math.min(segmentSize, size - nextSegment);
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, nextSegment, length);
+            nextSegment += length;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.example.utils.FileUtils;
+import org.example.utils.JsonCodec;
+import org.example.utils.JsonUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+
+/*
+ * Streaming parser over a memory-mapped export. Jackson's UTF-8 byte parser reads straight from
+ * the page cache, with no read syscalls, charset decoding or String copy of the content, and
+ * files past the 2GB limit of a single mapping are mapped one segment at a time.
+ */
+public class MappedJsonFileParser extends StreamingJsonFileParser {
+
+    private final long segmentSize;
+
+
+
+    public MappedJsonFileParser() {
+        this(JsonCodec.JACKSON);
+    }
+
+
+
+    public MappedJsonFileParser(JsonCodec codec) {
+        this(MappedFileInputStream.SEGMENT_SIZE, codec);
+    }
+
+
+
+    public MappedJsonFileParser(long segmentSize) {
+        this(segmentSize, JsonCodec.JACKSON);
+    }
+
+
+
+    /* Segments are capped at SEGMENT_SIZE; smaller ones only matter for tests and 32-bit address space. */
+    public MappedJsonFileParser(long segmentSize, JsonCodec codec) {
+        super(codec);
+        if (segmentSize <= 0 || segmentSize > MappedFileInputStream.SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be between 1 and " + MappedFileInputStream.SEGMENT_SIZE + ", got " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+    }
+
+
+
+    @Override
+    protected JsonParser createParser(String filePath) throws IOException {
+        Path path = Paths.get(filePath);
+        if (!FileUtils.fileExists(path)) {
+            throw new IOException("File not found: " + filePath);
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return JsonUtils.createParser(new MappedFileInputStream(channel, segmentSize));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.parser;
+
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.metrics.MigrationMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+
+/*
+ * Times every file the delegate parses and counts the bytes it read. A streamed file is timed
+ * until its stream is closed, since that is when the pipelined mode has finished consuming it.
+ */
+public class MeteredDataParser implements DataParser {
+
+    private final DataParser delegate;
+    private final MigrationMetrics metrics;
+
+
+
+    public MeteredDataParser(DataParser delegate, MigrationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+
+
+    @Override
+    public ExportDataDto parse(String filePath) throws IOException {
+        long start = metrics.startTimer();
+        ExportDataDto export = delegate.parse(filePath);
+        metrics.recordStage(MigrationMetrics.PARSE, start);
+        metrics.recordFileRead(Files.size(Paths.get(filePath)));
+        return export;
+    }
+
+
+
+    @Override
+    public Stream<JobDto> stream(String filePath) throws IOException {
+        long start = metrics.startTimer();
+        Stream<JobDto> jobs = delegate.stream(filePath);
+        metrics.recordFileRead(Files.size(Paths.get(filePath)));
+        return jobs.onClose(() -> metrics.recordStage(MigrationMetrics.PARSE, start));
+    }
+
+
+
+    @Override
+    public ExportDataDto parse(byte[] content, String source) throws IOException {
+        long start = metrics.startTimer();
+        ExportDataDto export = delegate.parse(content, source);
+        metrics.recordStage(MigrationMetrics.PARSE, start);
+        metrics.recordFileRead(content.length);
+        return export;
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.parser;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.utils.JsonCodec;
+import org.example.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/*
+ * Walks the export with Jackson's token API and binds one job at a time, so heap usage
+ * no longer depends on the size of the export file.
+ */
+@Slf4j
+public class StreamingJsonFileParser implements DataParser {
+
+    private static final String JOBS_FIELD = "jobs";
+
+    private final JsonCodec codec;
+
+
+
+    public StreamingJsonFileParser() {
+        this(JsonCodec.JACKSON);
+    }
+
+
+
+    public StreamingJsonFileParser(JsonCodec codec) {
+        this.codec = codec;
+    }
+
+
+
+    @Override
+    public ExportDataDto parse(String filePath) throws IOException {
+        log.info("Streaming JSON file: {}", filePath);
+
+        List<JobDto> jobs = new ArrayList<>();
+        try (Stream<JobDto> stream = stream(filePath)) {
+            stream.forEach(jobs::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Parsed {} jobs from {}", jobs.size(), filePath);
+        return ExportDataDto.builder().jobs(jobs).build();
+    }
+
+
+
+    @Override
+    public ExportDataDto parse(byte[] content, String source) throws IOException {
+        List<JobDto> jobs = new ArrayList<>();
+        try (Stream<JobDto> stream = stream(JsonUtils.createParser(content), source)) {
+            stream.forEach(jobs::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.debug("Parsed {} jobs from {}", jobs.size(), source);
+        return ExportDataDto.builder().jobs(jobs).build();
+    }
+
+
+
+    @Override
+    public Stream<JobDto> stream(String filePath) throws IOException {
+        return stream(createParser(filePath), filePath);
+    }
+
+
+
+    protected JsonParser createParser(String filePath) throws IOException {
+        return JsonUtils.createParser(Paths.get(filePath));
+    }
+
+
+
+    private Stream<JobDto> stream(JsonParser parser, String filePath) throws IOException {
+        try {
+            if (!moveToJobsArray(parser)) {
+                parser.close();
+                return Stream.empty();
+            }
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+
+        return StreamSupport.stream(new JobSpliterator(parser, codec), false)
+                .onClose(() -> closeQuietly(parser, filePath));
+    }
+
+
+
+    private boolean moveToJobsArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected export to start with a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (JOBS_FIELD.equals(field)) {
+                if (value == JsonToken.VALUE_NULL) {
+                    return false;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected \"jobs\" to be an array");
+                }
+                return true;
+            }
+
+            parser.skipChildren();
+        }
+
+        return false;
+    }
+
+
+
+    private void closeQuietly(JsonParser parser, String filePath) {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            log.warn("Failed to close parser for {}: {}", filePath, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.report;
+
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/*
+ * Lock-free accumulator for parallel migrations: every trigger owns one slot, so workers never
+ * contend, and toMigrationResult() replays the slots in input order to reproduce exactly what
+ * the sequential path would have recorded.
+ */
+public class ConcurrentMigrationResult {
+
+    private final AtomicReferenceArray<Outcome> outcomes;
+
+
+
+    public ConcurrentMigrationResult(int size) {
+        this.outcomes = new AtomicReferenceArray<>(size);
+    }
+
+
+
+    public void addSuccess(int index, Trigger trigger, RedwoodJobDto job) {
+        outcomes.set(index, new Outcome(trigger, true, job, null));
+    }
+
+
+
+    public void addFailure(int index, Trigger trigger, String reason) {
+        outcomes.set(index, new Outcome(trigger, false, null, reason));
+    }
+
+
+
+    public MigrationResult toMigrationResult() {
+        MigrationResult result = MigrationResult.builder().build();
+
+        for (int i = 0; i < outcomes.length(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (outcome == null) {
+                continue;
+            }
+
+            if (outcome.success()) {
+                result.addSuccess(outcome.trigger(), outcome.job());
+            } else {
+                result.addFailure(outcome.trigger(), outcome.reason());
+            }
+        }
+
+        return result;
+    }
+
+
+
+    private record Outcome(Trigger trigger, boolean success, RedwoodJobDto job, String reason) {
+    }
+}
@@ -54,6 +54,15 @@ public class MigrationAnalysis {
 
 
 
+    public void merge(MigrationAnalysis other) {
+        supported.addAll(other.getSupported());
+        workarounds.addAll(other.getWorkarounds());
+        unsupported.addAll(other.getUnsupported());
+        invalid.addAll(other.getInvalid());
+    }
+
+
+
     public int getTotalCount() {
         return supported.size() + workarounds.size() + unsupported.size() + invalid.size();
     }
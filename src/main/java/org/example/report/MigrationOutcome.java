@@ -0,0 +1,16 @@
+package org.example.report;
+
+/* Analysis and result of a single-pass run, where each trigger is validated once for both. */
+public record MigrationOutcome(MigrationAnalysis analysis, MigrationResult result) {
+
+    public static MigrationOutcome empty() {
+        return new MigrationOutcome(MigrationAnalysis.builder().build(), MigrationResult.builder().build());
+    }
+
+
+
+    public void merge(MigrationOutcome other) {
+        analysis.merge(other.analysis());
+        result.merge(other.result());
+    }
+}
@@ -35,6 +35,13 @@ public class MigrationResult {
 
 
 
+    public void merge(MigrationResult other) {
+        successes.putAll(other.getSuccesses());
+        failures.putAll(other.getFailures());
+    }
+
+
+
     public int getSuccessCount() {
         return successes.size();
     }
@@ -0,0 +1,186 @@
+package org.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.Trigger;
+import org.example.metrics.MigrationMetrics;
+import org.example.metrics.PoolUsage;
+import org.example.report.MigrationOutcome;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+
+/*
+ * Migrates jobs as a publisher emits them. At most `window` jobs are ever requested but not yet
+ * written: one more is requested each time a job is done, so the publisher runs only as far ahead
+ * as the slowest stage, usually the output, allows. Jobs are converted on the publisher's thread
+ * and migrated on the service's workers, each worker into its own outcome; the outcomes are merged
+ * once the publisher completes and every job in flight has finished.
+ */
+@Slf4j
+public class MigrationSubscriber implements Flow.Subscriber<JobDto> {
+
+    private final TriggerMigrationService service;
+    private final Function<JobDto, Trigger> converter;
+    private final Predicate<JobDto> alreadyMigrated;
+    private final int window;
+    private final ExecutorService workers;
+    private final PoolUsage usage;
+    private final Queue<MigrationOutcome> outcomes = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<MigrationOutcome> workerOutcome = ThreadLocal.withInitial(this::newOutcome);
+    private final List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inFlight = new AtomicInteger(1);
+    private final AtomicBoolean upstreamDone = new AtomicBoolean();
+    private final CompletableFuture<MigrationOutcome> completion = new CompletableFuture<>();
+    private volatile Throwable failure;
+    private Flow.Subscription subscription;
+
+
+
+    MigrationSubscriber(TriggerMigrationService service, Function<JobDto, Trigger> converter, Predicate<JobDto> alreadyMigrated,
+                        int window, int parallelism, MigrationMetrics metrics) {
+        this.service = service;
+        this.converter = converter;
+        this.alreadyMigrated = alreadyMigrated;
+        this.window = Math.max(1, window);
+        this.workers = Executors.newFixedThreadPool(parallelism);
+        this.usage = metrics.pool(MigrationMetrics.MIGRATE, parallelism);
+    }
+
+
+
+    /* Completes with the merged outcome of every migrated job, or with the publisher's error. */
+    public CompletableFuture<MigrationOutcome> completion() {
+        return completion;
+    }
+
+
+
+    /* Names of the jobs the alreadyMigrated predicate let through without migrating them. */
+    public List<String> skipped() {
+        return List.copyOf(skipped);
+    }
+
+
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+        subscription.request(window);
+    }
+
+
+
+    /* Never throws: a job that cannot be handed to the workers cancels the subscription and fails the run. */
+    @Override
+    public void onNext(JobDto job) {
+        try {
+            if (alreadyMigrated.test(job)) {
+                skipped.add(job.getJobName());
+                subscription.request(1);
+                return;
+            }
+
+            Trigger trigger = converter.apply(job);
+            inFlight.incrementAndGet();
+            try {
+                workers.execute(usage.wrap(() -> migrate(trigger)));
+            } catch (RuntimeException e) {
+                release();
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to hand job {} to the migrate workers, cancelling: {}", job.getJobName(), e.getMessage());
+            subscription.cancel();
+            finishUpstream(e);
+        }
+    }
+
+
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.error("Job publisher failed: {}", throwable.getMessage());
+        finishUpstream(throwable);
+    }
+
+
+
+    @Override
+    public void onComplete() {
+        finishUpstream(null);
+    }
+
+
+
+    /* Releases the publisher's slot once, whether it terminated or this subscriber cancelled it. */
+    private void finishUpstream(Throwable throwable) {
+        if (!upstreamDone.compareAndSet(false, true)) {
+            return;
+        }
+        if (throwable != null) {
+            failure = throwable;
+        }
+        release();
+    }
+
+
+
+    private void migrate(Trigger trigger) {
+        MigrationOutcome outcome = workerOutcome.get();
+        try {
+            service.analyzeAndMigrate(trigger, outcome);
+        } catch (RuntimeException e) {
+            log.error("Unexpected failure migrating trigger {}: {}", trigger.getJobName(), e.getMessage());
+            outcome.result().addFailure(trigger, e.getMessage());
+        } finally {
+            subscription.request(1);
+            release();
+        }
+    }
+
+
+
+    /* The publisher holds one slot until it terminates or is cancelled, so the last release is always the final one. */
+    private void release() {
+        if (inFlight.decrementAndGet() > 0) {
+            return;
+        }
+
+        workers.shutdown();
+        usage.close();
+        if (failure != null) {
+            completion.completeExceptionally(failure);
+            return;
+        }
+
+        MigrationOutcome merged = MigrationOutcome.empty();
+        outcomes.forEach(merged::merge);
+        completion.complete(merged);
+    }
+
+
+
+    private MigrationOutcome newOutcome() {
+        MigrationOutcome outcome = MigrationOutcome.empty();
+        outcomes.add(outcome);
+        return outcome;
+    }
+}
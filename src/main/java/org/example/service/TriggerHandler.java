@@ -14,6 +14,11 @@ public interface TriggerHandler {
 
     RedwoodJobDto migrate(Trigger trigger) throws MigrationException;
 
+    /* Migrates a trigger whose validation the caller has already computed, so it is not repeated. */
+    default RedwoodJobDto migrate(Trigger trigger, ValidationResult validation) throws MigrationException {
+        return migrate(trigger);
+    }
+
     String getDescription();
 
     boolean canHandle(Trigger trigger);
@@ -1,39 +1,91 @@
 package org.example.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.JobDto;
 import org.example.dto.internal.Trigger;
 import org.example.dto.internal.ValidationResult;
 import org.example.dto.output.RedwoodJobDto;
 import org.example.exception.MigrationException;
+import org.example.metrics.MigrationMetrics;
+import org.example.metrics.PoolUsage;
+import org.example.metrics.jfr.TriggerMigrateEvent;
+import org.example.output.FilePerJobSink;
+import org.example.output.OutputSink;
+import org.example.report.ConcurrentMigrationResult;
 import org.example.report.MigrationAnalysis;
+import org.example.report.MigrationOutcome;
 import org.example.report.MigrationResult;
 import org.reflections.Reflections;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 @Slf4j
 public class TriggerMigrationService {
 
     private static final String HANDLER_PACKAGE = "org.example.handler";
+    private static final int CLAIM_SIZE = 64;
 
-    private final List<TriggerHandler> handlers;
+    private final List<TriggerHandler> handlers = new ArrayList<>();
+    private final Map<TriggerType, TriggerHandler> dispatch = new EnumMap<>(TriggerType.class);
+    private final List<TriggerHandler> predicateHandlers = new ArrayList<>();
+    private final int parallelism;
+    private final OutputSink outputSink;
+    private final MigrationMetrics metrics;
 
 
 
     // Constructor injection for testing
     public TriggerMigrationService(List<TriggerHandler> handlers) {
-        this.handlers = new ArrayList<>(handlers);
+        this(handlers, 1, new FilePerJobSink());
+    }
+
+
+
+    public TriggerMigrationService(List<TriggerHandler> handlers, int parallelism, OutputSink outputSink) {
+        handlers.forEach(this::register);
+        this.parallelism = Math.max(1, parallelism);
+        this.outputSink = outputSink;
+        this.metrics = MigrationMetrics.DISABLED;
         log.info("Initialized with {} handlers", this.handlers.size());
     }
 
 
 
     public TriggerMigrationService() {
-        this.handlers = new ArrayList<>();
+        this(1);
+    }
+
+
+
+    public TriggerMigrationService(int parallelism) {
+        this(parallelism, new FilePerJobSink());
+    }
+
+
+
+    public TriggerMigrationService(int parallelism, OutputSink outputSink) {
+        this(parallelism, outputSink, MigrationMetrics.DISABLED);
+    }
+
+
+
+    public TriggerMigrationService(int parallelism, OutputSink outputSink, MigrationMetrics metrics) {
+        this.parallelism = Math.max(1, parallelism);
+        this.outputSink = outputSink;
+        this.metrics = metrics;
         registerHandlers();
     }
 
@@ -66,7 +118,7 @@ public class TriggerMigrationService {
     private void instantiateAndRegister(Class<? extends TriggerHandler> handlerClass) {
         try {
             TriggerHandler handler = handlerClass.getDeclaredConstructor().newInstance();
-            handlers.add(handler);
+            register(handler);
         } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
             log.error("Failed to register handler {}:", handlerClass.getName(), e);
         }
@@ -74,12 +126,29 @@ public class TriggerMigrationService {
 
 
 
+    /*
+     * Handlers declaring a supported type go into the dispatch table (first registration wins);
+     * handlers without one are treated as predicate-style and matched through canHandle.
+     */
+    private void register(TriggerHandler handler) {
+        handlers.add(handler);
+
+        TriggerType type = handler.getSupportedType();
+        if (type == null) {
+            predicateHandlers.add(handler);
+        } else {
+            dispatch.putIfAbsent(type, handler);
+        }
+    }
+
+
+
     public MigrationAnalysis analyze(List<Trigger> triggers) {
         log.info("Analyzing {} triggers", triggers.size());
         MigrationAnalysis analysis = MigrationAnalysis.builder().build();
 
         for (Trigger trigger : triggers) {
-            analyzeTrigger(trigger, analysis);
+            analyze(trigger, analysis);
         }
 
         return analysis;
@@ -87,7 +156,7 @@ public class TriggerMigrationService {
 
 
 
-    private void analyzeTrigger(Trigger trigger, MigrationAnalysis analysis) {
+    public void analyze(Trigger trigger, MigrationAnalysis analysis) {
         Optional<TriggerHandler> handlerOpt = findHandler(trigger);
 
         if (handlerOpt.isEmpty()) {
@@ -113,22 +182,32 @@ public class TriggerMigrationService {
         TriggerHandler handler = findHandler(trigger)
                 .orElseThrow(() -> new MigrationException("No handler for trigger type: " + trigger.getType()));
 
+        TriggerMigrateEvent event = TriggerMigrateEvent.start();
+        long start = metrics.startTimer();
         ValidationResult validation = handler.validate(trigger);
         if (!validation.isValid()) {
+            event.finish(trigger, handler, false);
             throw new MigrationException("Validation failed: " + validation.getErrors().get(0));
         }
 
-        return handler.migrate(trigger);
+        RedwoodJobDto job = handler.migrate(trigger);
+        metrics.recordHandler(trigger.getType(), start);
+        event.finish(trigger, handler, true);
+        return write(trigger, job);
     }
 
 
 
     public MigrationResult migrateAll(List<Trigger> triggers) {
+        if (parallelism > 1 && triggers.size() > 1) {
+            return migrateAllConcurrent(triggers);
+        }
+
         log.info("Migrating {} triggers", triggers.size());
         MigrationResult result = MigrationResult.builder().build();
 
         for (Trigger trigger : triggers) {
-            migrateSingle(trigger, result);
+            migrate(trigger, result);
         }
 
         return result;
@@ -136,7 +215,7 @@ public class TriggerMigrationService {
 
 
 
-    private void migrateSingle(Trigger trigger, MigrationResult result) {
+    public void migrate(Trigger trigger, MigrationResult result) {
         try {
             RedwoodJobDto job = migrate(trigger);
             result.addSuccess(trigger, job);
@@ -148,10 +227,207 @@ public class TriggerMigrationService {
 
 
 
-    private Optional<TriggerHandler> findHandler(Trigger trigger) {
-        return handlers.stream()
-                .filter(handler -> handler.canHandle(trigger))
-                .findFirst();
+    /*
+     * Workers claim small contiguous index ranges from a shared cursor, so slow writes on one shard
+     * never leave the other workers idle, and each trigger's outcome lands in its own result slot.
+     */
+    private MigrationResult migrateAllConcurrent(List<Trigger> triggers) {
+        int workers = Math.min(parallelism, triggers.size());
+        log.info("Migrating {} triggers on {} threads", triggers.size(), workers);
+
+        ConcurrentMigrationResult result = new ConcurrentMigrationResult(triggers.size());
+        AtomicInteger cursor = new AtomicInteger();
+        runOnWorkers(workers, () -> migrateClaimedShards(triggers, cursor, result));
+
+        return result.toMigrationResult();
+    }
+
+
+
+    private void migrateClaimedShards(List<Trigger> triggers, AtomicInteger cursor, ConcurrentMigrationResult result) {
+        int start;
+        while ((start = cursor.getAndAdd(CLAIM_SIZE)) < triggers.size()) {
+            int end = Math.min(start + CLAIM_SIZE, triggers.size());
+
+            for (int i = start; i < end; i++) {
+                Trigger trigger = triggers.get(i);
+                try {
+                    result.addSuccess(i, trigger, migrate(trigger));
+                } catch (MigrationException e) {
+                    result.addFailure(i, trigger, e.getMessage());
+                    log.error("Failed to migrate trigger {}: {}", trigger.getJobName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+
+
+    /*
+     * Single pass over the triggers: each one is validated exactly once and that ValidationResult
+     * drives both its analysis category and its migration.
+     */
+    public MigrationOutcome analyzeAndMigrate(List<Trigger> triggers) {
+        if (parallelism > 1 && triggers.size() > CLAIM_SIZE) {
+            return analyzeAndMigrateConcurrent(triggers);
+        }
+
+        log.info("Analyzing and migrating {} triggers in a single pass", triggers.size());
+        MigrationOutcome outcome = MigrationOutcome.empty();
+
+        for (Trigger trigger : triggers) {
+            analyzeAndMigrate(trigger, outcome);
+        }
+
+        return outcome;
+    }
+
+
+
+    public void analyzeAndMigrate(Trigger trigger, MigrationOutcome outcome) {
+        Optional<TriggerHandler> handlerOpt = findHandler(trigger);
+
+        if (handlerOpt.isEmpty()) {
+            outcome.analysis().addUnsupported(trigger);
+            recordFailure(trigger, outcome.result(), "No handler for trigger type: " + trigger.getType());
+            return;
+        }
+
+        TriggerHandler handler = handlerOpt.get();
+        TriggerMigrateEvent event = TriggerMigrateEvent.start();
+        long start = metrics.startTimer();
+        ValidationResult validation = handler.validate(trigger);
+
+        if (validation.isValid()) {
+            outcome.analysis().addSupported(trigger, handler);
+        } else if (!validation.hasErrors()) {
+            outcome.analysis().addWorkaround(trigger, handler, validation);
+        } else {
+            outcome.analysis().addInvalid(trigger, validation);
+            event.finish(trigger, handler, false);
+            recordFailure(trigger, outcome.result(), "Validation failed: " + validation.getErrors().get(0));
+            return;
+        }
+
+        try {
+            RedwoodJobDto job = handler.migrate(trigger, validation);
+            metrics.recordHandler(trigger.getType(), start);
+            event.finish(trigger, handler, true);
+            outcome.result().addSuccess(trigger, write(trigger, job));
+        } catch (MigrationException e) {
+            recordFailure(trigger, outcome.result(), e.getMessage());
+        }
+    }
+
+
+
+    /*
+     * Contiguous shards are claimed dynamically but each keeps its own accumulators, and merging
+     * them in shard order reproduces the sequential analysis and result exactly.
+     */
+    private MigrationOutcome analyzeAndMigrateConcurrent(List<Trigger> triggers) {
+        int shardCount = (triggers.size() + CLAIM_SIZE - 1) / CLAIM_SIZE;
+        int workers = Math.min(parallelism, shardCount);
+        log.info("Analyzing and migrating {} triggers in a single pass on {} threads", triggers.size(), workers);
+
+        MigrationOutcome[] shards = new MigrationOutcome[shardCount];
+        AtomicInteger cursor = new AtomicInteger();
+
+        runOnWorkers(workers, () -> {
+            int shard;
+            while ((shard = cursor.getAndIncrement()) < shardCount) {
+                MigrationOutcome outcome = MigrationOutcome.empty();
+                int end = Math.min((shard + 1) * CLAIM_SIZE, triggers.size());
+
+                for (int i = shard * CLAIM_SIZE; i < end; i++) {
+                    analyzeAndMigrate(triggers.get(i), outcome);
+                }
+                shards[shard] = outcome;
+            }
+        });
+
+        MigrationOutcome merged = MigrationOutcome.empty();
+        for (MigrationOutcome shard : shards) {
+            merged.merge(shard);
+        }
+        return merged;
+    }
+
+
+
+    /*
+     * Subscriber that migrates published jobs on this service's workers with at most `window`
+     * jobs requested ahead; see MigrationSubscriber.
+     */
+    public MigrationSubscriber subscriber(Function<JobDto, Trigger> converter, Predicate<JobDto> alreadyMigrated, int window) {
+        return new MigrationSubscriber(this, converter, alreadyMigrated, window, parallelism, metrics);
+    }
+
+
+
+    private RedwoodJobDto write(Trigger trigger, RedwoodJobDto job) throws MigrationException {
+        long start = metrics.startTimer();
+        outputSink.write(trigger, job);
+        metrics.recordWrite(start);
+        return job;
+    }
+
+
+
+    private void recordFailure(Trigger trigger, MigrationResult result, String reason) {
+        result.addFailure(trigger, reason);
+        log.error("Failed to migrate trigger {}: {}", trigger.getJobName(), reason);
+    }
+
+
+
+    private void runOnWorkers(int workers, Runnable task) {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        try (PoolUsage usage = metrics.pool(MigrationMetrics.MIGRATE, workers)) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                running.add(executor.submit(usage.wrap(task)));
+            }
+            awaitWorkers(running);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+
+    private void awaitWorkers(List<Future<?>> running) {
+        for (Future<?> worker : running) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MigrationException("Concurrent migration interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new MigrationException("Concurrent migration failed", e.getCause());
+            }
+        }
+    }
+
+
+
+    public Optional<TriggerHandler> findHandler(Trigger trigger) {
+        TriggerHandler handler = trigger.getType() == null ? null : dispatch.get(trigger.getType());
+        if (handler != null) {
+            return Optional.of(handler);
+        }
+
+        for (TriggerHandler candidate : predicateHandlers) {
+            if (candidate.canHandle(trigger)) {
+                return Optional.of(candidate);
+            }
+        }
+
+        return Optional.empty();
     }
 }
 
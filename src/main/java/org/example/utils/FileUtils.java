@@ -1,18 +1,16 @@
 package org.example.utils;
 
 import lombok.extern.slf4j.Slf4j;
-import org.example.exception.MigrationException;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 @Slf4j
 public final class FileUtils {
@@ -34,6 +32,21 @@ public final class FileUtils {
 
 
 
+    /* Makes renames into the directory durable; not every platform lets a directory be opened, which is fine there. */
+    public static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Could not sync directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+
+
     public static File getFile(String filePath) {
         return Paths.get(filePath).toFile();
     }
@@ -92,20 +105,6 @@ public final class FileUtils {
 
 
 
-    public static void writeToJsonFile(Object dto, String outputFileName, String outputFolder) throws MigrationException {
-        String jsonString = JsonUtils.toJsonString(dto);
-        if (jsonString == null || jsonString.isBlank()) {
-            throw new MigrationException("Failed to convert redwoodJobDto to json string");
-        }
-
-        String fileName = (outputFileName != null) ? outputFileName : System.currentTimeMillis() + ".json";
-        String outputPath = outputFolder.endsWith("/") ? outputFolder + fileName : outputFolder + "/" + fileName;
-
-        FileUtils.appendToFile(outputPath, jsonString);
-    }
-
-
-
     public static boolean isValidDirectoryPathFormat(String path) {
         if (path == null || path.isBlank()) {
             return false;
@@ -122,27 +121,13 @@ public final class FileUtils {
 
 
     public static void zipFolderAndDelete(Path sourceFolder, Path zipFile) throws IOException {
+        zipFolderAndDelete(sourceFolder, zipFile, ParallelZipArchiver.DEFAULT_LEVEL, Runtime.getRuntime().availableProcessors());
+    }
 
-        Files.createDirectories(zipFile.getParent());
-
-        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipFile))) {
-
-            try (var paths = Files.walk(sourceFolder)) {
-                paths.forEach(path -> {
-                    try {
-                        if (Files.isDirectory(path)) return;
 
-                        Path relative = sourceFolder.relativize(path);
-                        zos.putNextEntry(new ZipEntry(relative.toString()));
-                        Files.copy(path, zos);
-                        zos.closeEntry();
 
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                });
-            }
-        }
+    public static void zipFolderAndDelete(Path sourceFolder, Path zipFile, int compressionLevel, int threads) throws IOException {
+        new ParallelZipArchiver(compressionLevel, threads).archive(sourceFolder, zipFile);
 
         //deleteFolderRecursively(sourceFolder);
     }
@@ -0,0 +1,18 @@
+package org.example.utils;
+
+
+/*
+ * Which (de)serializers export, job and Redwood job JSON goes through: Jackson data binding, or
+ * the handwritten StreamingJsonCodecs behind --fast-json. Chosen per parser and sink rather than
+ * process-wide, so orchestrators with different settings can share a JVM.
+ */
+public enum JsonCodec {
+    JACKSON,
+    STREAMING;
+
+
+
+    public static JsonCodec of(boolean fastJson) {
+        return fastJson ? STREAMING : JACKSON;
+    }
+}
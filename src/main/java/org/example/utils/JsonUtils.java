@@ -1,16 +1,44 @@
 package org.example.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.dto.output.RedwoodTriggerDto;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 @Slf4j
 public final class JsonUtils {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    /* Immutable and thread-safe; built once so no per-call type lookup or configuration copy. */
+    private static final ObjectReader exportReader = objectMapper.readerFor(ExportDataDto.class);
+    private static final ObjectReader jobReader = objectMapper.readerFor(JobDto.class);
+    private static final ObjectWriter jobWriter = objectMapper.writerFor(JobDto.class);
+    private static final ObjectWriter redwoodJobWriter = objectMapper.writerFor(RedwoodJobDto.class);
+
+    private static final byte[] WARM_UP_EXPORT = ("{\"jobs\": [{\"jobId\": 1, \"jobName\": \"warm-up\", \"jobType\": \"ETL\", \"system\": \"WARMUP\", "
+            + "\"trigger\": {\"type\": \"SCHEDULE\", \"cronExpression\": \"0 0 * * *\", \"timezone\": \"UTC\"}, "
+            + "\"dependencies\": [{\"dependsOnJobId\": 1}], \"executionConstraints\": {}, \"notes\": \"warm-up\"}]}").getBytes(StandardCharsets.UTF_8);
+
+    private static final StreamingJsonCodecs streamingCodecs = new StreamingJsonCodecs(objectMapper);
+
+    private static volatile boolean warmedUp;
+
 
 
     private JsonUtils() {
@@ -29,6 +57,127 @@ public final class JsonUtils {
 
 
 
+    /* Byte-oriented parser straight over the file, so no String copy of the content is ever built. */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        if (!FileUtils.fileExists(filePath)) {
+            throw new IOException("File not found: " + filePath);
+        }
+
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
+
+
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+
+
+    public static JsonParser createParser(byte[] content) throws IOException {
+        return objectMapper.getFactory().createParser(content);
+    }
+
+
+
+    public static ExportDataDto parseExportFile(String filePath) throws IOException {
+        if (!FileUtils.fileExists(filePath)) {
+            throw new IOException("File not found: " + filePath);
+        }
+
+        return readExport(Files.readAllBytes(Paths.get(filePath)));
+    }
+
+
+
+    public static ExportDataDto readExport(byte[] content) throws IOException {
+        return readExport(content, JsonCodec.JACKSON);
+    }
+
+
+
+    public static ExportDataDto readExport(byte[] content, JsonCodec codec) throws IOException {
+        if (codec == JsonCodec.JACKSON) {
+            return exportReader.readValue(content);
+        }
+
+        try (JsonParser parser = createParser(content)) {
+            return streamingCodecs.readExport(parser);
+        }
+    }
+
+
+
+    public static JobDto readJob(JsonParser parser) throws IOException {
+        return readJob(parser, JsonCodec.JACKSON);
+    }
+
+
+
+    public static JobDto readJob(JsonParser parser, JsonCodec codec) throws IOException {
+        return codec == JsonCodec.STREAMING ? streamingCodecs.readJob(parser) : jobReader.readValue(parser);
+    }
+
+
+
+    public static void writeJob(OutputStream out, JobDto job) throws IOException {
+        jobWriter.writeValue(out, job);
+    }
+
+
+
+    public static void writeRedwoodJob(OutputStream out, RedwoodJobDto job) throws IOException {
+        writeRedwoodJob(out, job, JsonCodec.JACKSON);
+    }
+
+
+
+    public static void writeRedwoodJob(OutputStream out, RedwoodJobDto job, JsonCodec codec) throws IOException {
+        if (codec == JsonCodec.JACKSON) {
+            redwoodJobWriter.writeValue(out, job);
+            return;
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            streamingCodecs.writeRedwoodJob(generator, job);
+        }
+    }
+
+
+
+    /*
+     * Runs each prebuilt reader and writer, and the streaming codecs, once on a representative job, so serializer lookup and
+     * bean introspection happen up front rather than inside the first timed migration.
+     */
+    public static void warmUp() {
+        if (warmedUp) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            RedwoodJobDto sample = RedwoodJobDto.builder().name("warm-up").type("ETL").system("WARMUP").priority(1).maxRuntimeMinutes(1)
+                    .trigger(RedwoodTriggerDto.builder().type("SCHEDULE").schedule("0 0 * * *").timezone("UTC").apiEnabled(false).build())
+                    .build();
+            sample.addNote("warm-up");
+            sample.addMetadata("source", "warm-up");
+            redwoodJobWriter.writeValue(OutputStream.nullOutputStream(), sample);
+            exportReader.readValue(WARM_UP_EXPORT);
+
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream());
+                 JsonParser parser = createParser(WARM_UP_EXPORT)) {
+                streamingCodecs.writeRedwoodJob(generator, sample);
+                streamingCodecs.readExport(parser);
+            }
+            warmedUp = true;
+            log.debug("JSON codecs warmed up in {} us", (System.nanoTime() - start) / 1000);
+        } catch (IOException e) {
+            log.warn("JSON codec warm-up failed: {}", e.getMessage());
+        }
+    }
+
+
+
     public static String toJsonString(Object dto) {
         try {
             return objectMapper.writeValueAsString(dto);
@@ -0,0 +1,124 @@
+package org.example.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+
+/*
+ * Zips a folder with entries compressed concurrently on a worker pool. Each file is read,
+ * checksummed and deflated as an independent task; the calling thread appends finished entries
+ * to the archive in sorted path order, so the result is identical for any thread count.
+ * At most a few entries per worker are held in memory at once.
+ *
+ * Level 0 stores entries uncompressed (STORED); 1-9 are Deflater levels.
+ */
+@Slf4j
+public class ParallelZipArchiver {
+
+    public static final int STORED = 0;
+    public static final int DEFAULT_LEVEL = 6;
+
+    private static final int ENTRIES_IN_FLIGHT_PER_THREAD = 4;
+    private static final int ARCHIVE_BUFFER_SIZE = 256 * 1024;
+
+    private final int level;
+    private final int threads;
+
+
+
+    public ParallelZipArchiver(int level, int threads) {
+        if (level < STORED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be between 0 and 9, got: " + level);
+        }
+        this.level = level;
+        this.threads = Math.max(1, threads);
+    }
+
+
+
+    public void archive(Path sourceFolder, Path zipFile) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(sourceFolder)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        if (zipFile.getParent() != null) {
+            Files.createDirectories(zipFile.getParent());
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try (ZipWriter writer = new ZipWriter(new BufferedOutputStream(Files.newOutputStream(zipFile), ARCHIVE_BUFFER_SIZE))) {
+            Deque<Future<NamedEntry>> inFlight = new ArrayDeque<>();
+            int window = threads * ENTRIES_IN_FLIGHT_PER_THREAD;
+
+            for (Path file : files) {
+                String name = sourceFolder.relativize(file).toString().replace(File.separatorChar, '/');
+                inFlight.add(executor.submit(() -> compress(name, file)));
+
+                if (inFlight.size() >= window) {
+                    write(writer, await(inFlight.poll()));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                write(writer, await(inFlight.poll()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Archived {} files into {} in {} ms (level {}, {} threads)",
+                files.size(), zipFile, System.currentTimeMillis() - start, level, threads);
+    }
+
+
+
+    private NamedEntry compress(String name, Path file) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        return new NamedEntry(name, ZipWriter.Entry.compress(content, content.length, modified, level));
+    }
+
+
+
+    private static void write(ZipWriter writer, NamedEntry named) throws IOException {
+        writer.write(named.name(), named.entry());
+    }
+
+
+
+    private static NamedEntry await(Future<NamedEntry> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while archiving");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to compress archive entry", e.getCause());
+        }
+    }
+
+
+
+    private record NamedEntry(String name, ZipWriter.Entry entry) {
+    }
+}
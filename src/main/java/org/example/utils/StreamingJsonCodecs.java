@@ -0,0 +1,430 @@
+package org.example.utils;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.ExecutionConstraintsDto;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.dto.output.RedwoodTriggerDto;
+import org.example.service.TriggerType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/*
+ * Handwritten token-level codecs for the fixed export and Redwood schemas, used instead of
+ * Jackson's reflective bean (de)serializers in fast-JSON mode. Output is byte-for-byte what the
+ * generic writer produces: declaration order, nulls included. The reader takes the plain token
+ * for each field directly; anything unusual (coercions, bad enum names) is handed to the mapper
+ * at the current token, so the same input is accepted and the same input rejected. Like the DTO
+ * annotations, unknown properties are skipped on jobs and exports and rejected everywhere else.
+ */
+final class StreamingJsonCodecs {
+
+    private static final Map<String, TriggerType> TRIGGER_TYPES = new HashMap<>();
+
+    static {
+        for (TriggerType type : TriggerType.values()) {
+            TRIGGER_TYPES.put(type.name(), type);
+        }
+    }
+
+    private static final List<Object> TRIGGER_FIELDS = List.of("type", "cronExpression", "timezone", "upstreamJobId",
+            "watchPath", "filePattern", "eventSource", "eventType");
+    private static final List<Object> DEPENDENCY_FIELDS = List.of("dependsOnJobId", "requiredStatus");
+    private static final List<Object> CONSTRAINT_FIELDS = List.of("priority", "maxRuntimeMinutes", "excludeHolidays");
+
+    private static final TypeReference<List<JobDto>> JOB_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<DependencyDto>> DEPENDENCY_LIST = new TypeReference<>() {
+    };
+
+    private final ObjectMapper fallback;
+
+
+
+    StreamingJsonCodecs(ObjectMapper fallback) {
+        this.fallback = fallback;
+    }
+
+
+
+    ExportDataDto readExport(JsonParser parser) throws IOException {
+        if (startValue(parser) == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return fallback.readValue(parser, ExportDataDto.class);
+        }
+
+        ExportDataDto export = new ExportDataDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            try {
+                if ("jobs".equals(field)) {
+                    export.setJobs(value == JsonToken.START_ARRAY ? readJobs(parser) : readFallback(parser, value, JOB_LIST));
+                } else {
+                    parser.skipChildren();
+                }
+            } catch (IOException e) {
+                throw wrap(e, export, field);
+            }
+        }
+        return export;
+    }
+
+
+
+    /* Expects the parser on the job's START_OBJECT (or before it) and leaves it on the matching END_OBJECT. */
+    JobDto readJob(JsonParser parser) throws IOException {
+        if (startValue(parser) == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return fallback.readValue(parser, JobDto.class);
+        }
+
+        JobDto job = new JobDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            try {
+                readJobField(parser, job, field, value);
+            } catch (IOException e) {
+                throw wrap(e, job, field);
+            }
+        }
+        return job;
+    }
+
+
+
+    private void readJobField(JsonParser parser, JobDto job, String field, JsonToken value) throws IOException {
+        switch (field) {
+            case "jobId" -> job.setJobId(readInteger(parser, value));
+            case "jobName" -> job.setJobName(readString(parser, value));
+            case "jobType" -> job.setJobType(readString(parser, value));
+            case "system" -> job.setSystem(readString(parser, value));
+            case "trigger" -> job.setTrigger(value == JsonToken.START_OBJECT ? readTrigger(parser) : readFallback(parser, value, TriggerDto.class));
+            case "dependencies" -> job.setDependencies(value == JsonToken.START_ARRAY ? readDependencies(parser) : readFallback(parser, value, DEPENDENCY_LIST));
+            case "executionConstraints" -> job.setExecutionConstraints(value == JsonToken.START_OBJECT ? readConstraints(parser) : readFallback(parser, value, ExecutionConstraintsDto.class));
+            case "notes" -> job.setNotes(readString(parser, value));
+            default -> parser.skipChildren();
+        }
+    }
+
+
+
+    void writeRedwoodJob(JsonGenerator generator, RedwoodJobDto job) throws IOException {
+        if (job == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeStringField("name", job.getName());
+        generator.writeStringField("type", job.getType());
+        generator.writeStringField("system", job.getSystem());
+        generator.writeFieldName("trigger");
+        writeTrigger(generator, job.getTrigger());
+        writeIntegerField(generator, "priority", job.getPriority());
+        writeIntegerField(generator, "maxRuntimeMinutes", job.getMaxRuntimeMinutes());
+        generator.writeFieldName("notes");
+        writeStrings(generator, job.getNotes());
+        generator.writeFieldName("metadata");
+        writeStringMap(generator, job.getMetadata());
+        generator.writeEndObject();
+    }
+
+
+
+    private List<JobDto> readJobs(JsonParser parser) throws IOException {
+        List<JobDto> jobs = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            try {
+                jobs.add(readJob(parser));
+            } catch (IOException e) {
+                throw JsonMappingException.wrapWithPath(e, jobs, jobs.size());
+            }
+        }
+        return jobs;
+    }
+
+
+
+    private TriggerDto readTrigger(JsonParser parser) throws IOException {
+        TriggerDto trigger = new TriggerDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            boolean known;
+            try {
+                known = readTriggerField(parser, trigger, field, value);
+            } catch (IOException e) {
+                throw wrap(e, trigger, field);
+            }
+            if (!known) {
+                throw UnrecognizedPropertyException.from(parser, trigger, field, TRIGGER_FIELDS);
+            }
+        }
+        return trigger;
+    }
+
+
+
+    private boolean readTriggerField(JsonParser parser, TriggerDto trigger, String field, JsonToken value) throws IOException {
+        switch (field) {
+            case "type" -> trigger.setType(readTriggerType(parser, value));
+            case "cronExpression" -> trigger.setCronExpression(readString(parser, value));
+            case "timezone" -> trigger.setTimezone(readString(parser, value));
+            case "upstreamJobId" -> trigger.setUpstreamJobId(readInteger(parser, value));
+            case "watchPath" -> trigger.setWatchPath(readString(parser, value));
+            case "filePattern" -> trigger.setFilePattern(readString(parser, value));
+            case "eventSource" -> trigger.setEventSource(readString(parser, value));
+            case "eventType" -> trigger.setEventType(readString(parser, value));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+
+    private List<DependencyDto> readDependencies(JsonParser parser) throws IOException {
+        List<DependencyDto> dependencies = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            try {
+                dependencies.add(token == JsonToken.START_OBJECT ? readDependency(parser) : readFallback(parser, token, DependencyDto.class));
+            } catch (IOException e) {
+                throw JsonMappingException.wrapWithPath(e, dependencies, dependencies.size());
+            }
+        }
+        return dependencies;
+    }
+
+
+
+    private DependencyDto readDependency(JsonParser parser) throws IOException {
+        DependencyDto dependency = new DependencyDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            boolean known;
+            try {
+                known = readDependencyField(parser, dependency, field, value);
+            } catch (IOException e) {
+                throw wrap(e, dependency, field);
+            }
+            if (!known) {
+                throw UnrecognizedPropertyException.from(parser, dependency, field, DEPENDENCY_FIELDS);
+            }
+        }
+        return dependency;
+    }
+
+
+
+    private boolean readDependencyField(JsonParser parser, DependencyDto dependency, String field, JsonToken value) throws IOException {
+        switch (field) {
+            case "dependsOnJobId" -> dependency.setDependsOnJobId(readInteger(parser, value));
+            case "requiredStatus" -> dependency.setRequiredStatus(readString(parser, value));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+
+    private ExecutionConstraintsDto readConstraints(JsonParser parser) throws IOException {
+        ExecutionConstraintsDto constraints = new ExecutionConstraintsDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            boolean known;
+            try {
+                known = readConstraintField(parser, constraints, field, value);
+            } catch (IOException e) {
+                throw wrap(e, constraints, field);
+            }
+            if (!known) {
+                throw UnrecognizedPropertyException.from(parser, constraints, field, CONSTRAINT_FIELDS);
+            }
+        }
+        return constraints;
+    }
+
+
+
+    private boolean readConstraintField(JsonParser parser, ExecutionConstraintsDto constraints, String field, JsonToken value) throws IOException {
+        switch (field) {
+            case "priority" -> constraints.setPriority(readInteger(parser, value));
+            case "maxRuntimeMinutes" -> constraints.setMaxRuntimeMinutes(readInteger(parser, value));
+            case "excludeHolidays" -> constraints.setExcludeHolidays(readBoolean(parser, value));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+
+    private JsonToken startValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.FIELD_NAME) {
+            token = parser.nextToken();
+        }
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of input");
+        }
+        return token;
+    }
+
+
+
+    private String readString(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NULL -> null;
+            default -> fallback.readValue(parser, String.class);
+        };
+    }
+
+
+
+    private Integer readInteger(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        return value == JsonToken.VALUE_NULL ? null : fallback.readValue(parser, Integer.class);
+    }
+
+
+
+    private Boolean readBoolean(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> fallback.readValue(parser, Boolean.class);
+        };
+    }
+
+
+
+    private TriggerType readTriggerType(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            TriggerType type = TRIGGER_TYPES.get(parser.getText());
+            if (type != null) {
+                return type;
+            }
+        }
+        return value == JsonToken.VALUE_NULL ? null : fallback.readValue(parser, TriggerType.class);
+    }
+
+
+
+    /* Same rule as Jackson's bean deserializers: parse and mapping errors gain the property path, plain I/O errors pass through. */
+    private static IOException wrap(IOException e, Object bean, String field) {
+        return e instanceof JacksonException ? JsonMappingException.wrapWithPath(e, bean, field) : e;
+    }
+
+
+
+    private <T> T readFallback(JsonParser parser, JsonToken value, Class<T> type) throws IOException {
+        return value == JsonToken.VALUE_NULL ? null : fallback.readValue(parser, type);
+    }
+
+
+
+    private <T> T readFallback(JsonParser parser, JsonToken value, TypeReference<T> type) throws IOException {
+        return value == JsonToken.VALUE_NULL ? null : fallback.readValue(parser, type);
+    }
+
+
+
+    private void writeTrigger(JsonGenerator generator, RedwoodTriggerDto trigger) throws IOException {
+        if (trigger == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeStringField("type", trigger.getType());
+        generator.writeStringField("schedule", trigger.getSchedule());
+        generator.writeStringField("timezone", trigger.getTimezone());
+        generator.writeFieldName("apiEnabled");
+        if (trigger.getApiEnabled() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(trigger.getApiEnabled());
+        }
+        generator.writeStringField("preScript", trigger.getPreScript());
+        generator.writeEndObject();
+    }
+
+
+
+    private void writeIntegerField(JsonGenerator generator, String name, Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+
+
+    private void writeStrings(JsonGenerator generator, List<String> values) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartArray();
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+
+
+    private void writeStringMap(JsonGenerator generator, Map<String, String> values) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new JsonGenerationException("Null key for a Map not allowed in JSON", generator);
+            }
+            generator.writeFieldName(entry.getKey());
+            generator.writeString(entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+}
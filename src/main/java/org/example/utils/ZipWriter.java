@@ -0,0 +1,222 @@
+package org.example.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+
+/*
+ * Minimal sequential zip writer for entries that are already compressed. Entries are checksummed
+ * and deflated by the caller, off any lock, so appending one is a plain copy. Sizes are known up
+ * front, so no data descriptors are needed; Zip64 records are added only when the entry count
+ * or offsets exceed the classic format limits. Not thread-safe.
+ */
+public final class ZipWriter implements Closeable, Flushable {
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int FLAG_UTF8_NAMES = 0x0800;
+    private static final long MAX_32 = 0xFFFFFFFFL;
+    private static final int MAX_16 = 0xFFFF;
+
+    private final OutputStream out;
+    private final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+    private long position;
+    private long entries;
+
+
+
+    public ZipWriter(OutputStream out) {
+        this.out = out;
+    }
+
+
+
+    public void write(String entryName, Entry entry) throws IOException {
+        byte[] name = entryName.getBytes(StandardCharsets.UTF_8);
+        int dosTime = toDosTime(entry.modifiedMillis());
+        long offset = position;
+
+        ByteBuffer local = header(30 + name.length);
+        local.putInt(LOCAL_HEADER_SIGNATURE)
+                .putShort((short) VERSION)
+                .putShort((short) FLAG_UTF8_NAMES)
+                .putShort((short) entry.method())
+                .putInt(dosTime)
+                .putInt((int) entry.crc())
+                .putInt(entry.data().length)
+                .putInt((int) entry.size())
+                .putShort((short) name.length)
+                .putShort((short) 0)
+                .put(name);
+        emit(local.array());
+        emit(entry.data());
+
+        boolean zip64Offset = offset >= MAX_32;
+        ByteBuffer central = header(46 + name.length + (zip64Offset ? 12 : 0));
+        central.putInt(CENTRAL_HEADER_SIGNATURE)
+                .putShort((short) (zip64Offset ? VERSION_ZIP64 : VERSION))
+                .putShort((short) (zip64Offset ? VERSION_ZIP64 : VERSION))
+                .putShort((short) FLAG_UTF8_NAMES)
+                .putShort((short) entry.method())
+                .putInt(dosTime)
+                .putInt((int) entry.crc())
+                .putInt(entry.data().length)
+                .putInt((int) entry.size())
+                .putShort((short) name.length)
+                .putShort((short) (zip64Offset ? 12 : 0))
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putInt(0)
+                .putInt((int) (zip64Offset ? MAX_32 : offset))
+                .put(name);
+        if (zip64Offset) {
+            central.putShort((short) 0x0001).putShort((short) 8).putLong(offset);
+        }
+        centralDirectory.write(central.array());
+        entries++;
+    }
+
+
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+
+
+    @Override
+    public void close() throws IOException {
+        try {
+            long directoryOffset = position;
+            long directorySize = centralDirectory.size();
+            centralDirectory.writeTo(out);
+            position += directorySize;
+
+            boolean zip64 = entries >= MAX_16 || directoryOffset >= MAX_32 || directorySize >= MAX_32;
+            if (zip64) {
+                writeZip64End(directoryOffset, directorySize);
+            }
+
+            ByteBuffer end = header(22);
+            end.putInt(END_SIGNATURE)
+                    .putShort((short) 0)
+                    .putShort((short) 0)
+                    .putShort((short) Math.min(entries, MAX_16))
+                    .putShort((short) Math.min(entries, MAX_16))
+                    .putInt((int) Math.min(directorySize, MAX_32))
+                    .putInt((int) Math.min(directoryOffset, MAX_32))
+                    .putShort((short) 0);
+            emit(end.array());
+        } finally {
+            out.close();
+        }
+    }
+
+
+
+    private void writeZip64End(long directoryOffset, long directorySize) throws IOException {
+        long recordOffset = position;
+
+        ByteBuffer record = header(56 + 20);
+        record.putInt(ZIP64_END_SIGNATURE)
+                .putLong(44)
+                .putShort((short) VERSION_ZIP64)
+                .putShort((short) VERSION_ZIP64)
+                .putInt(0)
+                .putInt(0)
+                .putLong(entries)
+                .putLong(entries)
+                .putLong(directorySize)
+                .putLong(directoryOffset);
+        record.putInt(ZIP64_LOCATOR_SIGNATURE)
+                .putInt(0)
+                .putLong(recordOffset)
+                .putInt(1);
+        emit(record.array());
+    }
+
+
+
+    private void emit(byte[] bytes) throws IOException {
+        out.write(bytes);
+        position += bytes.length;
+    }
+
+
+
+    private static ByteBuffer header(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+
+
+    private static int toDosTime(long millis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        if (time.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        int date = ((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+        int clock = (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() >> 1);
+        return (date << 16) | clock;
+    }
+
+
+
+    /* An entry's payload, checksummed and compressed, ready to be copied into the archive. */
+    public record Entry(int method, long modifiedMillis, long crc, long size, byte[] data) {
+
+        /* Level 0 stores the first length bytes of content as-is; 1-9 deflate them at that level. */
+        public static Entry compress(byte[] content, int length, long modifiedMillis, int level) {
+            CRC32 crc = new CRC32();
+            crc.update(content, 0, length);
+
+            if (level == Deflater.NO_COMPRESSION) {
+                byte[] data = length == content.length ? content : Arrays.copyOf(content, length);
+                return new Entry(METHOD_STORED, modifiedMillis, crc.getValue(), length, data);
+            }
+            return new Entry(METHOD_DEFLATED, modifiedMillis, crc.getValue(), length, deflate(content, length, level));
+        }
+
+
+
+        private static byte[] deflate(byte[] content, int length, int level) {
+            Deflater deflater = new Deflater(level, true);
+            try {
+                deflater.setInput(content, 0, length);
+                deflater.finish();
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 64);
+                byte[] chunk = new byte[8192];
+                while (!deflater.finished()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
@@ -3,75 +3,118 @@ package org.example.validator;
 import lombok.extern.slf4j.Slf4j;
 import org.example.dto.input.ExportDataDto;
 import org.example.dto.input.JobDto;
-import org.example.dto.internal.ConcurrentValidationResult;
 import org.example.dto.internal.ValidationResult;
+import org.example.metrics.jfr.ValidationPhaseEvent;
 
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 
 @Slf4j
 public class ConcurrentJobValidator implements Validator {
 
-    private final ExecutorService executor;
+    private static final int JOB_CHECK_GRAIN = 1024;
+
+    private final ForkJoinPool executor;
     private final JobDependencyValidator jobDependencyValidator;
+    private final ParallelDependencyValidator parallelDependencyValidator;
+    private final ValidationStrategy strategy;
+    private final ValidationCostModel costModel;
 
 
 
     public ConcurrentJobValidator() {
+        this(ValidationStrategy.AUTO);
+    }
+
+
+
+    public ConcurrentJobValidator(ValidationStrategy strategy) {
         int threads = Runtime.getRuntime().availableProcessors();
-        this.executor = Executors.newFixedThreadPool(threads);
+        this.executor = new ForkJoinPool(threads);
         this.jobDependencyValidator = new JobDependencyValidator();
-        log.info("Initialized concurrent validator with {} threads", threads);
+        this.parallelDependencyValidator = new ParallelDependencyValidator(executor);
+        this.strategy = strategy;
+        this.costModel = new ValidationCostModel(this::validateWith, threads);
+        log.info("Initialized concurrent validator with {} threads, {} strategy", threads, strategy);
     }
 
 
 
     @Override
     public ValidationResult validate(ExportDataDto export) {
-        List<JobDto> jobs = export.getJobs();
+        int jobs = export.getJobs().size();
+        ValidationStrategy chosen = strategy == ValidationStrategy.AUTO ? costModel.choose(jobs) : strategy;
+
+        long start = System.nanoTime();
+        ValidationResult result = validateWith(chosen, export);
+        costModel.record(chosen, jobs, System.nanoTime() - start);
+
+        return result;
+    }
+
 
-        if (jobs.size() < 10) {
-            log.info("Small batch ({}), using sequential validation", jobs.size());
-            return jobDependencyValidator.validate(export);
+
+    /* SEQUENTIAL runs everything inline, CHUNKED parallelises the per-job checks, FORK_JOIN also the dependency graph. */
+    ValidationResult validateWith(ValidationStrategy strategy, ExportDataDto export) {
+        JobDto[] jobs = export.getJobs().toArray(new JobDto[0]);
+
+        ValidationPhaseEvent event = ValidationPhaseEvent.start();
+        ValidationResult result = strategy == ValidationStrategy.SEQUENTIAL
+                ? validateJobs(jobs, 0, jobs.length)
+                : ParallelRanges.reduce(executor, 0, jobs.length, JOB_CHECK_GRAIN, (from, to) -> validateJobs(jobs, from, to), ConcurrentJobValidator::merge);
+        if (result == null) {
+            result = new ValidationResult();
         }
+        event.finish(ValidationPhaseEvent.JOB_CHECKS, strategy.name(), jobs.length, result.getErrors().size());
+
+        ValidationResult dependencies = strategy == ValidationStrategy.FORK_JOIN
+                ? parallelDependencyValidator.validate(export)
+                : jobDependencyValidator.validate(export);
+        dependencies.getErrors().forEach(result::addError);
 
-        log.info("Large batch ({}), using concurrent validation", jobs.size());
-        return validateConcurrent(export);
+        return result;
     }
 
 
 
-    private ValidationResult validateConcurrent(ExportDataDto export) {
-        ConcurrentValidationResult result = new ConcurrentValidationResult();
-        List<JobDto> jobs = export.getJobs();
+    /* Per-chunk buffer, only allocated once the chunk actually finds a problem. */
+    private ValidationResult validateJobs(JobDto[] jobs, int from, int to) {
+        ValidationResult chunk = null;
 
+        for (int i = from; i < to; i++) {
+            JobDto job = jobs[i];
 
-        CompletableFuture.allOf(jobs.stream() // Wait for all validations to complete
-                .map(job -> CompletableFuture.runAsync(() -> validateJob(job, result), executor))
-                .toArray(CompletableFuture[]::new)).join();
+            if (job.getJobName() == null || job.getJobName().isEmpty()) {
+                chunk = addError(chunk, String.format("Job %d has no name", job.getJobId()));
+            }
 
+            if (job.getTrigger() == null) {
+                chunk = addError(chunk, String.format("Job %d (%s) has no trigger", job.getJobId(), job.getJobName()));
+            }
+        }
+        return chunk;
+    }
 
-        ValidationResult finalResult = result.toValidationResult(); // Now validate dependencies (requires all jobs)
-        jobDependencyValidator.validate(export).getErrors()
-                .forEach(finalResult::addError);
 
-        return finalResult;
+
+    private static ValidationResult addError(ValidationResult chunk, String error) {
+        ValidationResult buffer = chunk == null ? new ValidationResult() : chunk;
+        buffer.addError(error);
+        return buffer;
     }
 
 
 
-    private void validateJob(JobDto job, ConcurrentValidationResult result) {
-        if (job.getJobName() == null || job.getJobName().isEmpty()) {
-            result.addError(String.format("Job %d has no name", job.getJobId()));
+    private static ValidationResult merge(ValidationResult left, ValidationResult right) {
+        if (left == null) {
+            return right;
         }
-
-        if (job.getTrigger() == null) {
-            result.addError(String.format("Job %d (%s) has no trigger", job.getJobId(), job.getJobName()));
+        if (right != null) {
+            left.getErrors().addAll(right.getErrors());
+            left.getWarnings().addAll(right.getWarnings());
         }
+        return left;
     }
 
 
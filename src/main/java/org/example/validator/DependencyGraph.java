@@ -0,0 +1,264 @@
+package org.example.validator;
+
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.JobDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+
+/*
+ * Job dependency graph compiled into compressed sparse row form: every distinct job ID gets a
+ * dense index, and the dependencies of index i are targets[offsets[i] .. offsets[i + 1]).
+ * Jobs sharing an ID are merged into one node (and reported as duplicates); dependencies on
+ * unknown jobs are recorded instead of becoming edges.
+ */
+public final class DependencyGraph {
+
+    private final int[] jobIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final List<Integer> duplicateIds;
+    private final List<MissingReference> missingReferences;
+
+
+
+    DependencyGraph(int[] jobIds, int[] offsets, int[] targets,
+                    List<Integer> duplicateIds, List<MissingReference> missingReferences) {
+        this.jobIds = jobIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.duplicateIds = duplicateIds;
+        this.missingReferences = missingReferences;
+    }
+
+
+
+    public static DependencyGraph compile(List<JobDto> jobs) {
+        IntIndexMap indexById = new IntIndexMap(jobs.size());
+        int[] nodeOf = new int[jobs.size()];
+        int[] jobIds = new int[jobs.size()];
+        List<Integer> duplicateIds = new ArrayList<>();
+        int nodes = 0;
+
+        for (int i = 0; i < jobs.size(); i++) {
+            Integer jobId = jobs.get(i).getJobId();
+            if (jobId == null) {
+                nodeOf[i] = IntIndexMap.ABSENT;
+                continue;
+            }
+
+            int existing = indexById.putIfAbsent(jobId, nodes);
+            if (existing == IntIndexMap.ABSENT) {
+                jobIds[nodes] = jobId;
+                nodeOf[i] = nodes++;
+            } else {
+                duplicateIds.add(jobId);
+                nodeOf[i] = existing;
+            }
+        }
+
+        int[] offsets = new int[nodes + 1];
+        List<MissingReference> missingReferences = new ArrayList<>();
+        forEachEdge(jobs, nodeOf, indexById, (source, target) -> offsets[source + 1]++, missingReferences);
+
+        for (int i = 0; i < nodes; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[offsets[nodes]];
+        int[] cursor = Arrays.copyOf(offsets, nodes);
+        forEachEdge(jobs, nodeOf, indexById, (source, target) -> targets[cursor[source]++] = target, null);
+
+        return new DependencyGraph(Arrays.copyOf(jobIds, nodes), offsets, targets, duplicateIds, missingReferences);
+    }
+
+
+
+    private static void forEachEdge(List<JobDto> jobs, int[] nodeOf, IntIndexMap indexById, EdgeVisitor visitor,
+                                    List<MissingReference> missingReferences) {
+        for (int i = 0; i < jobs.size(); i++) {
+            List<DependencyDto> dependencies = jobs.get(i).getDependencies();
+            if (nodeOf[i] == IntIndexMap.ABSENT || dependencies == null) {
+                continue;
+            }
+
+            for (DependencyDto dependency : dependencies) {
+                Integer targetId = dependency.getDependsOnJobId();
+                int target = targetId == null ? IntIndexMap.ABSENT : indexById.get(targetId);
+
+                if (target != IntIndexMap.ABSENT) {
+                    visitor.visit(nodeOf[i], target);
+                } else if (missingReferences != null) {
+                    missingReferences.add(new MissingReference(jobs.get(i).getJobId(), targetId));
+                }
+            }
+        }
+    }
+
+
+
+    public int size() {
+        return jobIds.length;
+    }
+
+
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+
+
+    public int jobId(int index) {
+        return jobIds[index];
+    }
+
+
+
+    public List<Integer> duplicateIds() {
+        return duplicateIds;
+    }
+
+
+
+    public List<MissingReference> missingReferences() {
+        return missingReferences;
+    }
+
+
+
+    /*
+     * Strongly connected components that form a cycle (more than one job, or a job depending on
+     * itself), as sorted job IDs, ordered by their smallest job ID so the report does not depend
+     * on how nodes were numbered. Iterative Tarjan with explicit stacks, so chain depth is bounded
+     * by heap rather than thread stack size.
+     */
+    public List<int[]> findCycles() {
+        return findCycles(new boolean[size()]);
+    }
+
+
+
+    /* As findCycles(), ignoring nodes already known not to lie on a cycle. */
+    public List<int[]> findCycles(boolean[] excluded) {
+        int n = size();
+        int[] order = new int[n];
+        int[] low = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int[] callNode = new int[n];
+        int[] callEdge = new int[n];
+        Arrays.fill(order, -1);
+
+        List<int[]> cycles = new ArrayList<>();
+        int counter = 0;
+        int sp = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (order[root] != -1 || excluded[root]) {
+                continue;
+            }
+
+            int cp = 0;
+            order[root] = low[root] = counter++;
+            stack[sp++] = root;
+            onStack[root] = true;
+            callNode[cp] = root;
+            callEdge[cp++] = offsets[root];
+
+            while (cp > 0) {
+                int v = callNode[cp - 1];
+                int edge = callEdge[cp - 1];
+
+                if (edge < offsets[v + 1]) {
+                    callEdge[cp - 1] = edge + 1;
+                    int w = targets[edge];
+
+                    if (excluded[w]) {
+                        continue;
+                    }
+                    if (order[w] == -1) {
+                        order[w] = low[w] = counter++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        callNode[cp] = w;
+                        callEdge[cp++] = offsets[w];
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], order[w]);
+                    }
+                    continue;
+                }
+
+                cp--;
+                if (cp > 0) {
+                    int parent = callNode[cp - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+
+                if (low[v] == order[v]) {
+                    int start = sp;
+                    do {
+                        onStack[stack[--start]] = false;
+                    } while (stack[start] != v);
+
+                    if (sp - start > 1 || hasSelfLoop(v)) {
+                        cycles.add(componentJobIds(stack, start, sp));
+                    }
+                    sp = start;
+                }
+            }
+        }
+
+        cycles.sort(Comparator.comparingInt(cycle -> cycle[0]));
+        return cycles;
+    }
+
+
+
+    private boolean hasSelfLoop(int node) {
+        for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+            if (targets[edge] == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+
+    private int[] componentJobIds(int[] stack, int from, int to) {
+        int[] ids = new int[to - from];
+        for (int i = from; i < to; i++) {
+            ids[i - from] = jobIds[stack[i]];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+
+
+    int[] offsets() {
+        return offsets;
+    }
+
+
+
+    int[] targets() {
+        return targets;
+    }
+
+
+
+    public record MissingReference(Integer jobId, Integer dependsOnJobId) {
+    }
+
+
+
+    @FunctionalInterface
+    private interface EdgeVisitor {
+        void visit(int source, int target);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.validator;
+
+import java.util.Arrays;
+
+
+/* Open-addressing int -> dense index map, so graph construction never boxes job IDs. */
+final class IntIndexMap {
+
+    static final int ABSENT = -1;
+
+    private final int[] keys;
+    private final int[] values;
+    private final int mask;
+
+
+
+    IntIndexMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(values, ABSENT);
+    }
+
+
+
+    int get(int key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (values[slot] == ABSENT || keys[slot] == key) {
+                return values[slot];
+            }
+        }
+    }
+
+
+
+    /* Returns the index already mapped to key, or maps key to index and returns ABSENT. */
+    int putIfAbsent(int key, int index) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (values[slot] == ABSENT) {
+                keys[slot] = key;
+                values[slot] = index;
+                return ABSENT;
+            }
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+    }
+
+
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -1,97 +1,66 @@
 package org.example.validator;
 
 import lombok.extern.slf4j.Slf4j;
-import org.example.dto.input.DependencyDto;
 import org.example.dto.input.ExportDataDto;
-import org.example.dto.input.JobDto;
 import org.example.dto.internal.ValidationResult;
+import org.example.metrics.jfr.ValidationPhaseEvent;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class JobDependencyValidator {
 
-    public ValidationResult validate(ExportDataDto export) {
-        List<JobDto> jobs = export.getJobs();
-        ValidationResult result = new ValidationResult();
-
-        Set<Integer> jobIds = collectJobIds(jobs, result);
-        Map<Integer, List<Integer>> graph = buildDependencyGraph(jobs);
-
-        validateReferences(graph, jobIds, result);
-        validateNoCycles(graph, result);
+    private static final int MAX_LISTED_CYCLE_JOBS = 20;
 
-        log.info("Validation complete: {} errors", result.getErrors().size());
-        return result;
-    }
 
 
+    public ValidationResult validate(ExportDataDto export) {
+        ValidationPhaseEvent event = ValidationPhaseEvent.start();
+        ValidationResult result = new ValidationResult();
+        DependencyGraph graph = DependencyGraph.compile(export.getJobs());
 
-    private Set<Integer> collectJobIds(List<JobDto> jobs, ValidationResult result) {
-        Set<Integer> ids = new HashSet<>();
-
-        for (JobDto job : jobs) {
-            if (!ids.add(job.getJobId())) {
-                result.addError("Duplicate job ID: " + job.getJobId());
-            }
-        }
+        validateUniqueIds(graph, result);
+        validateReferences(graph, result);
+        validateNoCycles(graph.findCycles(), result);
+        event.finish(ValidationPhaseEvent.DEPENDENCIES, ValidationStrategy.SEQUENTIAL.name(), graph.size(), result.getErrors().size());
 
-        return ids;
+        /* Debug, as in ParallelDependencyValidator: cost model calibration runs this on synthetic exports. */
+        log.debug("Validation complete: {} errors", result.getErrors().size());
+        return result;
     }
 
 
 
-    private Map<Integer, List<Integer>> buildDependencyGraph(List<JobDto> jobs) {
-        return jobs.stream()
-                .collect(Collectors.toMap(
-                        JobDto::getJobId,
-                        job -> job.getDependencies().stream()
-                                .map(DependencyDto::getDependsOnJobId)
-                                .toList()
-                ));
+    void validateUniqueIds(DependencyGraph graph, ValidationResult result) {
+        graph.duplicateIds().forEach(jobId -> result.addError("Duplicate job ID: " + jobId));
     }
 
 
 
-    private void validateReferences(Map<Integer, List<Integer>> graph, Set<Integer> jobIds, ValidationResult result) {
-        graph.forEach((jobId, dependencies) ->
-                dependencies.stream()
-                        .filter(depId -> !jobIds.contains(depId))
-                        .forEach(depId -> result.addError("Job " + jobId + " depends on non-existent job " + depId))
-        );
+    void validateReferences(DependencyGraph graph, ValidationResult result) {
+        graph.missingReferences().forEach(missing ->
+                result.addError("Job " + missing.jobId() + " depends on non-existent job " + missing.dependsOnJobId()));
     }
 
 
 
-    private void validateNoCycles(Map<Integer, List<Integer>> graph, ValidationResult result) {
-        Set<Integer> visited = new HashSet<>();
-        Set<Integer> inStack = new HashSet<>();
-
-        for (Integer jobId : graph.keySet()) {
-            if (hasCycle(jobId, graph, visited, inStack)) {
-                result.addError("Circular dependency detected");
-                return;
-            }
+    void validateNoCycles(List<int[]> cycles, ValidationResult result) {
+        for (int[] cycle : cycles) {
+            result.addError("Circular dependency detected between " + cycle.length + " jobs: " + describe(cycle));
         }
     }
 
 
 
-    private boolean hasCycle(Integer jobId, Map<Integer, List<Integer>> graph, Set<Integer> visited, Set<Integer> inStack) {
-        if (inStack.contains(jobId)) return true;
-        if (visited.contains(jobId)) return false;
-
-        visited.add(jobId);
-        inStack.add(jobId);
-
-        for (Integer dep : graph.getOrDefault(jobId, Collections.emptyList())) {
-            if (hasCycle(dep, graph, visited, inStack)) {
-                return true;
-            }
-        }
+    private static String describe(int[] cycle) {
+        String listed = Arrays.stream(cycle, 0, Math.min(cycle.length, MAX_LISTED_CYCLE_JOBS))
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(", "));
 
-        inStack.remove(jobId);
-        return false;
+        return cycle.length > MAX_LISTED_CYCLE_JOBS
+                ? listed + " and " + (cycle.length - MAX_LISTED_CYCLE_JOBS) + " more"
+                : listed;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package org.example.validator;
+
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.metrics.MigrationMetrics;
+
+
+/* Times each validation of the complete job set. */
+public class MeteredValidator implements Validator {
+
+    private final Validator delegate;
+    private final MigrationMetrics metrics;
+
+
+
+    public MeteredValidator(Validator delegate, MigrationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+
+
+    @Override
+    public ValidationResult validate(ExportDataDto export) {
+        long start = metrics.startTimer();
+        try {
+            return delegate.validate(export);
+        } finally {
+            metrics.recordStage(MigrationMetrics.VALIDATE, start);
+        }
+    }
+
+
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+}
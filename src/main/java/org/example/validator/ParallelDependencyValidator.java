@@ -0,0 +1,63 @@
+package org.example.validator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.metrics.jfr.ValidationPhaseEvent;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+
+/*
+ * Same checks and messages as JobDependencyValidator, with graph compilation, duplicate and
+ * reference checks and the acyclic peel split across a ForkJoinPool. Only the jobs left after
+ * peeling (cycles and what they depend on) go through the sequential Tarjan pass.
+ */
+@Slf4j
+public class ParallelDependencyValidator {
+
+    private static final int MIN_GRAIN = 4096;
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final ForkJoinPool pool;
+    private final JobDependencyValidator reporter = new JobDependencyValidator();
+
+
+
+    public ParallelDependencyValidator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+
+
+    public ValidationResult validate(ExportDataDto export) {
+        JobDto[] jobs = export.getJobs().toArray(new JobDto[0]);
+        ValidationPhaseEvent event = ValidationPhaseEvent.start();
+        ValidationResult result = pool.invoke(ForkJoinTask.adapt(() -> validateInPool(jobs)));
+        event.finish(ValidationPhaseEvent.DEPENDENCIES, ValidationStrategy.FORK_JOIN.name(), jobs.length, result.getErrors().size());
+        return result;
+    }
+
+
+
+    private ValidationResult validateInPool(JobDto[] jobs) {
+        long start = System.nanoTime();
+        int grain = Math.max(MIN_GRAIN, jobs.length / (pool.getParallelism() * TASKS_PER_THREAD));
+
+        DependencyGraph graph = ParallelGraphs.compile(jobs, grain);
+        boolean[] acyclic = ParallelGraphs.peelAcyclic(graph, grain);
+        List<int[]> cycles = graph.findCycles(acyclic);
+
+        ValidationResult result = new ValidationResult();
+        reporter.validateUniqueIds(graph, result);
+        reporter.validateReferences(graph, result);
+        reporter.validateNoCycles(cycles, result);
+
+        log.debug("Parallel dependency validation of {} jobs / {} edges took {} ms: {} errors",
+                graph.size(), graph.edgeCount(), (System.nanoTime() - start) / 1_000_000, result.getErrors().size());
+        return result;
+    }
+}
@@ -0,0 +1,280 @@
+package org.example.validator;
+
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.JobDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.example.validator.ParallelRanges.forEach;
+import static org.example.validator.ParallelRanges.reduce;
+
+
+/*
+ * Fork-join versions of the DependencyGraph passes. Must run inside a ForkJoinPool task so that
+ * the range splits and Arrays.parallelSort/parallelPrefix use that pool.
+ *
+ * Compilation sorts (jobId, position) pairs, which groups duplicates next to each other and
+ * numbers nodes by ascending job ID. Job DTOs are read once, in input order, to resolve edges;
+ * every later pass is a data-parallel scan over int arrays.
+ */
+final class ParallelGraphs {
+
+    private static final int NO_NODE = -1;
+
+    private ParallelGraphs() {
+    }
+
+
+
+    static DependencyGraph compile(JobDto[] jobs, int grain) {
+        int n = jobs.length;
+
+        long[] keyed = new long[n];
+        int nullIds = reduce(0, n, grain, (from, to) -> {
+            int nulls = 0;
+            for (int p = from; p < to; p++) {
+                Integer jobId = jobs[p].getJobId();
+                keyed[p] = jobId == null ? Long.MAX_VALUE : ((long) jobId << 32) | p;
+                nulls += jobId == null ? 1 : 0;
+            }
+            return nulls;
+        }, Integer::sum);
+        Arrays.parallelSort(keyed);
+        int valid = n - nullIds;
+
+        int[] nodeRank = new int[valid];
+        forEach(0, valid, grain, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                nodeRank[k] = k == 0 || idAt(keyed, k) != idAt(keyed, k - 1) ? 1 : 0;
+            }
+        });
+        List<Integer> duplicateIds = duplicateIds(keyed, nodeRank, grain);
+        Arrays.parallelPrefix(nodeRank, Integer::sum);
+        int nodes = valid == 0 ? 0 : nodeRank[valid - 1];
+
+        int[] jobIds = new int[nodes];
+        int[] nodeStart = new int[nodes + 1];
+        int[] nodeOf = new int[n];
+        Arrays.fill(nodeOf, NO_NODE);
+        forEach(0, valid, grain, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                int node = nodeRank[k] - 1;
+                nodeOf[positionAt(keyed, k)] = node;
+                if (k == 0 || nodeRank[k] != nodeRank[k - 1]) {
+                    jobIds[node] = idAt(keyed, k);
+                    nodeStart[node] = k;
+                }
+            }
+        });
+        nodeStart[nodes] = valid;
+
+        IntIndexMap indexById = new IntIndexMap(nodes);
+        for (int node = 0; node < nodes; node++) {
+            indexById.putIfAbsent(jobIds[node], node);
+        }
+
+        int[] rawOffsets = new int[n + 1];
+        forEach(0, n, grain, (from, to) -> {
+            for (int p = from; p < to; p++) {
+                List<DependencyDto> dependencies = jobs[p].getDependencies();
+                rawOffsets[p + 1] = nodeOf[p] == NO_NODE || dependencies == null ? 0 : dependencies.size();
+            }
+        });
+        Arrays.parallelPrefix(rawOffsets, Integer::sum);
+
+        int[] rawTargets = new int[rawOffsets[n]];
+        int[] degree = new int[n];
+        List<DependencyGraph.MissingReference> missingReferences = reduce(0, n, grain, (from, to) -> {
+            List<DependencyGraph.MissingReference> missing = new ArrayList<>();
+            for (int p = from; p < to; p++) {
+                degree[p] = resolve(jobs[p], rawOffsets[p], rawOffsets[p + 1], indexById, rawTargets, missing);
+            }
+            return missing;
+        }, ParallelGraphs::concat);
+
+        int[] jobOffsets = new int[valid + 1];
+        forEach(0, valid, grain, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                jobOffsets[k + 1] = degree[positionAt(keyed, k)];
+            }
+        });
+        Arrays.parallelPrefix(jobOffsets, Integer::sum);
+
+        int[] targets = new int[jobOffsets[valid]];
+        forEach(0, valid, grain, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                int p = positionAt(keyed, k);
+                int next = jobOffsets[k];
+                for (int e = rawOffsets[p]; e < rawOffsets[p + 1]; e++) {
+                    if (rawTargets[e] != NO_NODE) {
+                        targets[next++] = rawTargets[e];
+                    }
+                }
+            }
+        });
+
+        int[] offsets = new int[nodes + 1];
+        forEach(0, nodes + 1, grain, (from, to) -> {
+            for (int node = from; node < to; node++) {
+                offsets[node] = jobOffsets[nodeStart[node]];
+            }
+        });
+
+        return new DependencyGraph(jobIds, offsets, targets, duplicateIds, missingReferences);
+    }
+
+
+
+    /*
+     * Parallel Kahn peel: repeatedly removes jobs no remaining job depends on, one frontier at a
+     * time. What survives is every cycle plus whatever those cycles depend on; for a valid export
+     * nothing survives and Tarjan has nothing left to do.
+     */
+    static boolean[] peelAcyclic(DependencyGraph graph, int grain) {
+        int n = graph.size();
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+
+        AtomicIntegerArray dependents = new AtomicIntegerArray(n);
+        forEach(0, targets.length, grain, (from, to) -> {
+            for (int e = from; e < to; e++) {
+                dependents.incrementAndGet(targets[e]);
+            }
+        });
+
+        int[] frontier = reduce(0, n, grain, (from, to) -> {
+            IntStream.Builder roots = IntStream.builder();
+            for (int node = from; node < to; node++) {
+                if (dependents.get(node) == 0) {
+                    roots.add(node);
+                }
+            }
+            return roots.build().toArray();
+        }, ParallelGraphs::concat);
+
+        boolean[] removed = new boolean[n];
+        while (frontier.length > 0) {
+            int[] current = frontier;
+            frontier = reduce(0, current.length, grain, (from, to) -> {
+                IntStream.Builder next = IntStream.builder();
+                for (int i = from; i < to; i++) {
+                    int node = current[i];
+                    removed[node] = true;
+                    for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                        if (dependents.decrementAndGet(targets[e]) == 0) {
+                            next.add(targets[e]);
+                        }
+                    }
+                }
+                return next.build().toArray();
+            }, ParallelGraphs::concat);
+        }
+
+        return removed;
+    }
+
+
+
+    /* Resolves one job's dependencies into rawTargets[from, to), NO_NODE for unknown jobs; returns the resolved count. */
+    private static int resolve(JobDto job, int from, int to, IntIndexMap indexById, int[] rawTargets,
+                               List<DependencyGraph.MissingReference> missing) {
+        if (from == to) {
+            return 0;
+        }
+
+        int resolved = 0;
+        int e = from;
+        for (DependencyDto dependency : job.getDependencies()) {
+            Integer targetId = dependency.getDependsOnJobId();
+            int target = targetId == null ? NO_NODE : indexById.get(targetId);
+
+            rawTargets[e++] = target;
+            if (target != NO_NODE) {
+                resolved++;
+            } else {
+                missing.add(new DependencyGraph.MissingReference(job.getJobId(), targetId));
+            }
+        }
+        return resolved;
+    }
+
+
+
+    /* Every occurrence after the first, reported in input order like the sequential pass. */
+    private static List<Integer> duplicateIds(long[] keyed, int[] firstFlags, int grain) {
+        long[] byPosition = reduce(0, firstFlags.length, grain, (from, to) -> {
+            LongStream.Builder duplicates = LongStream.builder();
+            for (int k = from; k < to; k++) {
+                if (firstFlags[k] == 0) {
+                    duplicates.add(((long) positionAt(keyed, k) << 32) | (idAt(keyed, k) & 0xFFFFFFFFL));
+                }
+            }
+            return duplicates.build().toArray();
+        }, ParallelGraphs::concat);
+
+        Arrays.sort(byPosition);
+
+        List<Integer> ids = new ArrayList<>(byPosition.length);
+        for (long entry : byPosition) {
+            ids.add((int) entry);
+        }
+        return ids;
+    }
+
+
+
+    private static int idAt(long[] keyed, int k) {
+        return (int) (keyed[k] >> 32);
+    }
+
+
+
+    private static int positionAt(long[] keyed, int k) {
+        return (int) keyed[k];
+    }
+
+
+
+    private static int[] concat(int[] left, int[] right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+
+        int[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return merged;
+    }
+
+
+
+    private static long[] concat(long[] left, long[] right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+
+        long[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return merged;
+    }
+
+
+
+    private static <T> List<T> concat(List<T> left, List<T> right) {
+        if (left.isEmpty()) {
+            return right;
+        }
+        left.addAll(right);
+        return left;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.validator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+
+/*
+ * Range-partitioned fork-join loops. A range keeps splitting in halves while it is larger than
+ * the grain and the current worker has few queued tasks left for thieves; once idle workers are
+ * saturated, the remaining range runs as one leaf. Leaf results are merged left to right, so
+ * per-leaf buffers come out in input order without any shared collection.
+ */
+final class ParallelRanges {
+
+    private static final int SURPLUS_TASKS = 3;
+
+    private ParallelRanges() {
+    }
+
+
+
+    /* Runs in the pool of the calling task; use the pool overload from outside a ForkJoinPool. */
+    static void forEach(int from, int to, int grain, RangeConsumer body) {
+        reduce(from, to, grain, (lo, hi) -> {
+            body.accept(lo, hi);
+            return null;
+        }, (left, right) -> null);
+    }
+
+
+
+    static <R> R reduce(int from, int to, int grain, RangeFunction<R> leaf, BinaryOperator<R> merge) {
+        return new RangeTask<>(from, to, Math.max(1, grain), leaf, merge).invoke();
+    }
+
+
+
+    static <R> R reduce(ForkJoinPool pool, int from, int to, int grain, RangeFunction<R> leaf, BinaryOperator<R> merge) {
+        return pool.invoke(new RangeTask<>(from, to, Math.max(1, grain), leaf, merge));
+    }
+
+
+
+    @FunctionalInterface
+    interface RangeConsumer {
+        void accept(int from, int to);
+    }
+
+
+
+    @FunctionalInterface
+    interface RangeFunction<R> {
+        R apply(int from, int to);
+    }
+
+
+
+    private static final class RangeTask<R> extends RecursiveTask<R> {
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeFunction<R> leaf;
+        private final BinaryOperator<R> merge;
+
+
+
+        private RangeTask(int from, int to, int grain, RangeFunction<R> leaf, BinaryOperator<R> merge) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.leaf = leaf;
+            this.merge = merge;
+        }
+
+
+
+        @Override
+        protected R compute() {
+            if (to - from <= grain || getSurplusQueuedTaskCount() > SURPLUS_TASKS) {
+                return leaf.apply(from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            RangeTask<R> right = new RangeTask<>(mid, to, grain, leaf, merge);
+            right.fork();
+            R left = new RangeTask<>(from, mid, grain, leaf, merge).compute();
+            return merge.apply(left, right.join());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.validator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.service.TriggerType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+
+/*
+ * Linear cost model, fixed + perJob * jobs, for each concrete validation strategy. The fixed part
+ * is mostly pool hand-off and phase synchronisation, the per-job part the actual checks divided
+ * by whatever parallelism the strategy gets.
+ *
+ * Both terms are calibrated lazily, the first time a batch is large enough for the choice to
+ * matter: all strategies are warmed up first, then timed interleaved on a small and a large
+ * synthetic export so none is measured colder than the others. Afterwards each real run above
+ * MIN_RECORDED_JOBS refines the per-job cost of the strategy it used. With a single worker thread
+ * nothing can beat sequential, so no calibration happens at all.
+ */
+@Slf4j
+public class ValidationCostModel {
+
+    private static final int ALWAYS_SEQUENTIAL_BELOW = 64;
+
+    private static final int SMALL_SAMPLE = 256;
+    private static final int LARGE_SAMPLE = 8192;
+    private static final int WARMUP_RUNS = 3;
+    private static final int TIMED_RUNS = 3;
+    private static final int MIN_RECORDED_JOBS = 1000;
+    private static final double LEARNING_RATE = 0.3;
+
+    private static final List<ValidationStrategy> CANDIDATES =
+            List.of(ValidationStrategy.SEQUENTIAL, ValidationStrategy.CHUNKED, ValidationStrategy.FORK_JOIN);
+
+    private final Runner runner;
+    private final int parallelism;
+    private final LongSupplier clock;
+    private final Map<ValidationStrategy, double[]> costs = new EnumMap<>(ValidationStrategy.class);
+    private volatile boolean calibrated;
+
+
+
+    public ValidationCostModel(Runner runner, int parallelism) {
+        this(runner, parallelism, System::nanoTime);
+    }
+
+
+
+    public ValidationCostModel(Runner runner, int parallelism, LongSupplier clock) {
+        this.runner = runner;
+        this.parallelism = parallelism;
+        this.clock = clock;
+    }
+
+
+
+    public ValidationStrategy choose(int jobs) {
+        if (parallelism <= 1) {
+            log.info("Validating {} jobs with {} (single worker thread)", jobs, ValidationStrategy.SEQUENTIAL);
+            return ValidationStrategy.SEQUENTIAL;
+        }
+        if (jobs < ALWAYS_SEQUENTIAL_BELOW) {
+            log.info("Validating {} jobs with {} (below {} jobs)", jobs, ValidationStrategy.SEQUENTIAL, ALWAYS_SEQUENTIAL_BELOW);
+            return ValidationStrategy.SEQUENTIAL;
+        }
+        calibrateOnce();
+
+        ValidationStrategy best = ValidationStrategy.SEQUENTIAL;
+        for (ValidationStrategy candidate : CANDIDATES) {
+            if (estimateNanos(candidate, jobs) < estimateNanos(best, jobs)) {
+                best = candidate;
+            }
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Validating {} jobs with {} (estimated sequential {} ms, chunked {} ms, fork-join {} ms)", jobs, best,
+                    millis(ValidationStrategy.SEQUENTIAL, jobs), millis(ValidationStrategy.CHUNKED, jobs), millis(ValidationStrategy.FORK_JOIN, jobs));
+        }
+        return best;
+    }
+
+
+
+    public synchronized double estimateNanos(ValidationStrategy strategy, int jobs) {
+        double[] cost = costs.get(strategy);
+        return cost == null ? Double.MAX_VALUE : cost[0] + cost[1] * jobs;
+    }
+
+
+
+    public synchronized void record(ValidationStrategy strategy, int jobs, long nanos) {
+        double[] cost = costs.get(strategy);
+        if (cost == null || jobs < MIN_RECORDED_JOBS) {
+            return;
+        }
+
+        double observedPerJob = Math.max(0, nanos - cost[0]) / jobs;
+        cost[1] = (1 - LEARNING_RATE) * cost[1] + LEARNING_RATE * observedPerJob;
+    }
+
+
+
+    private void calibrateOnce() {
+        if (calibrated) {
+            return;
+        }
+
+        synchronized (this) {
+            if (calibrated) {
+                return;
+            }
+
+            ExportDataDto small = syntheticExport(SMALL_SAMPLE);
+            ExportDataDto large = syntheticExport(LARGE_SAMPLE);
+
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                CANDIDATES.forEach(strategy -> runner.run(strategy, large));
+            }
+
+            Map<ValidationStrategy, long[]> fastest = new EnumMap<>(ValidationStrategy.class);
+            CANDIDATES.forEach(strategy -> fastest.put(strategy, new long[]{Long.MAX_VALUE, Long.MAX_VALUE}));
+            for (int i = 0; i < TIMED_RUNS; i++) {
+                for (ValidationStrategy strategy : CANDIDATES) {
+                    long[] best = fastest.get(strategy);
+                    best[0] = Math.min(best[0], timeRun(strategy, small));
+                    best[1] = Math.min(best[1], timeRun(strategy, large));
+                }
+            }
+
+            fastest.forEach((strategy, best) -> {
+                double perJob = Math.max(0, best[1] - best[0]) / (double) (LARGE_SAMPLE - SMALL_SAMPLE);
+                double fixed = Math.max(0, best[0] - perJob * SMALL_SAMPLE);
+                costs.put(strategy, new double[]{fixed, perJob});
+                log.debug("Calibrated {}: fixed {} us, {} ns per job", strategy, (long) (fixed / 1000), (long) perJob);
+            });
+
+            calibrated = true;
+        }
+    }
+
+
+
+    private long timeRun(ValidationStrategy strategy, ExportDataDto export) {
+        long start = clock.getAsLong();
+        runner.run(strategy, export);
+        return clock.getAsLong() - start;
+    }
+
+
+
+    private long millis(ValidationStrategy strategy, int jobs) {
+        return (long) (estimateNanos(strategy, jobs) / 1_000_000);
+    }
+
+
+
+    /* Jobs shaped like a real export: named, triggered, with two dependencies on earlier jobs. */
+    static ExportDataDto syntheticExport(int size) {
+        List<JobDto> jobs = new ArrayList<>(size);
+        TriggerDto trigger = TriggerDto.builder().type(TriggerType.MANUAL).build();
+
+        for (int id = 0; id < size; id++) {
+            List<DependencyDto> dependencies = new ArrayList<>(2);
+            if (id > 0) {
+                dependencies.add(DependencyDto.builder().dependsOnJobId(id - 1).build());
+                dependencies.add(DependencyDto.builder().dependsOnJobId(id / 2).build());
+            }
+            jobs.add(JobDto.builder().jobId(id).jobName("Calibration_" + id).trigger(trigger).dependencies(dependencies).build());
+        }
+
+        return ExportDataDto.builder().jobs(jobs).build();
+    }
+
+
+
+    @FunctionalInterface
+    public interface Runner {
+        ValidationResult run(ValidationStrategy strategy, ExportDataDto export);
+    }
+}
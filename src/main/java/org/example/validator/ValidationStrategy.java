@@ -0,0 +1,8 @@
+package org.example.validator;
+
+public enum ValidationStrategy {
+    AUTO,
+    SEQUENTIAL,
+    CHUNKED,
+    FORK_JOIN
+}
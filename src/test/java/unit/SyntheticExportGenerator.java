@@ -0,0 +1,324 @@
+package unit;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Getter;
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.ExecutionConstraintsDto;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
+import org.example.service.TriggerType;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/*
+ * Seeded exports shaped like production ones, streamed job by job so a million-job, multi-GB export
+ * is written in constant memory. Dependencies are derived from job ids alone, never from a graph
+ * held in memory:
+ *
+ *   INDEPENDENT  no dependencies
+ *   CHAINS       width parallel chains, each jobs / width long (width 1 = one deep chain)
+ *   FAN_OUT      every job hangs off one of the first width jobs
+ *   FAN_IN       every width-th job collects the width - 1 jobs before it and the previous collector
+ *   DAG          layers of width jobs, each depending on 1..maxFanIn jobs of the layer above
+ *
+ * Any topology can have cycles injected: each is a pair of neighbouring jobs depending on each other.
+ * The same settings and seed always produce the same bytes, however the jobs are split over files.
+ */
+@Getter
+@Builder
+public class SyntheticExportGenerator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] SYSTEMS = {"SAP", "ORACLE", "MAINFRAME", "POSTGRES", "SALESFORCE", "SFTP"};
+    private static final int[] SYSTEM_WEIGHTS = {40, 25, 15, 10, 6, 4};
+    private static final String[] JOB_TYPES = {"ETL", "BACKUP", "REPORT", "TRANSFER", "CLEANUP"};
+    private static final String FILLER = "Migrated from the legacy scheduler; owned by the batch operations team. ";
+
+    public enum Topology { INDEPENDENT, CHAINS, FAN_OUT, FAN_IN, DAG }
+
+    /* Relative weights per TriggerType, in declaration order. */
+    public enum TriggerMix {
+        SCHEDULE(100, 0, 0, 0, 0, 0, 0, 0, 0, 0),
+        UNIFORM(1, 1, 1, 1, 0, 1, 0, 0, 0, 0),
+        PRODUCTION(62, 10, 6, 6, 0, 16, 0, 0, 0, 0),
+        WITH_UNSUPPORTED(58, 9, 5, 5, 3, 14, 2, 1, 2, 1);
+
+        private final int[] cumulative;
+
+
+
+        TriggerMix(int... weights) {
+            cumulative = cumulative(weights);
+        }
+
+
+
+        TriggerType pick(Random random) {
+            return TriggerType.values()[SyntheticExportGenerator.pick(cumulative, random)];
+        }
+    }
+
+    @Builder.Default
+    private final long seed = 42;
+
+    @Builder.Default
+    private final int jobs = 1000;
+
+    @Builder.Default
+    private final int files = 1;
+
+    @Builder.Default
+    private final Topology topology = Topology.DAG;
+
+    @Builder.Default
+    private final int width = 64;
+
+    @Builder.Default
+    private final int maxFanIn = 3;
+
+    @Builder.Default
+    private final int cycles = 0;
+
+    @Builder.Default
+    private final TriggerMix triggerMix = TriggerMix.PRODUCTION;
+
+    /* Length of each job's notes; the main knob for bytes per job, about 450 + noteLength. */
+    @Builder.Default
+    private final int noteLength = 60;
+
+
+
+    /* Writes "<prefix>-0001.json" ... into the directory, splitting jobs evenly. */
+    public List<Path> write(Path directory, String prefix) throws IOException {
+        Files.createDirectories(directory);
+        Iterator<JobDto> source = new JobSource();
+        List<Path> written = new ArrayList<>(files);
+
+        for (int file = 0; file < files; file++) {
+            int count = jobs / files + (file < jobs % files ? 1 : 0);
+            Path path = directory.resolve(String.format("%s-%04d.json", prefix, file + 1));
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+                write(out, source, count);
+            }
+            written.add(path);
+        }
+
+        return written;
+    }
+
+
+
+    public void write(OutputStream out) throws IOException {
+        write(out, new JobSource(), jobs);
+    }
+
+
+
+    public Stream<JobDto> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(new JobSource(), jobs, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+
+
+    /* For benchmarks and tests that need the whole export in memory. */
+    public ExportDataDto toExport() {
+        return ExportDataDto.builder().jobs(stream().toList()).build();
+    }
+
+
+
+    private static void write(OutputStream out, Iterator<JobDto> source, int count) throws IOException {
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("jobs");
+            for (int i = 0; i < count; i++) {
+                generator.writeObject(source.next());
+                generator.writeRaw('\n');
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+
+
+    private static int[] cumulative(int[] weights) {
+        int[] cumulative = new int[weights.length];
+        for (int i = 0, sum = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+
+
+    private static int pick(int[] cumulative, Random random) {
+        int roll = random.nextInt(cumulative[cumulative.length - 1]);
+        int index = 0;
+        while (roll >= cumulative[index]) {
+            index++;
+        }
+        return index;
+    }
+
+
+
+    /* Generates jobs 1..jobs in order; all state is the random generator and the cycle positions. */
+    private final class JobSource implements Iterator<JobDto> {
+
+        private final Random random = new Random(seed);
+        private final int[] systemWeights = cumulative(SYSTEM_WEIGHTS);
+        private final Set<Integer> cycleStarts = new HashSet<>();
+        private int next = 1;
+
+
+
+        private JobSource() {
+            for (int k = 1; k <= cycles; k++) {
+                cycleStarts.add(Math.max(1, Math.min(jobs - 1, (int) ((long) jobs * k / (cycles + 1)))));
+            }
+        }
+
+
+
+        @Override
+        public boolean hasNext() {
+            return next <= jobs;
+        }
+
+
+
+        @Override
+        public JobDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int id = next++;
+            List<DependencyDto> dependencies = new ArrayList<>();
+            dependencies(id).forEach(dependsOn -> dependencies.add(DependencyDto.builder().dependsOnJobId(dependsOn).build()));
+
+            TriggerType type = triggerMix.pick(random);
+            if (type == TriggerType.DEPENDENCY && dependencies.isEmpty()) {
+                type = TriggerType.MANUAL;
+            }
+            String system = SYSTEMS[pick(systemWeights, random)];
+
+            return JobDto.builder()
+                    .jobId(id)
+                    .jobName(system + "_" + JOB_TYPES[id % JOB_TYPES.length] + "_" + id)
+                    .jobType(JOB_TYPES[id % JOB_TYPES.length])
+                    .system(system)
+                    .trigger(trigger(type, dependencies))
+                    .dependencies(dependencies)
+                    .executionConstraints(ExecutionConstraintsDto.builder()
+                            .priority(1 + random.nextInt(10))
+                            .maxRuntimeMinutes(15 + random.nextInt(240))
+                            .excludeHolidays(random.nextInt(10) == 0)
+                            .build())
+                    .notes(notes(id))
+                    .build();
+        }
+
+
+
+        private List<Integer> dependencies(int id) {
+            List<Integer> dependsOn = new ArrayList<>();
+
+            switch (topology) {
+                case CHAINS -> {
+                    if (id > width) {
+                        dependsOn.add(id - width);
+                    }
+                }
+                case FAN_OUT -> {
+                    if (id > width) {
+                        dependsOn.add(1 + random.nextInt(width));
+                    }
+                }
+                case FAN_IN -> {
+                    if (id % width == 0) {
+                        for (int upstream = id - width + 1; upstream < id; upstream++) {
+                            dependsOn.add(upstream);
+                        }
+                        if (id > width) {
+                            dependsOn.add(id - width);
+                        }
+                    }
+                }
+                case DAG -> {
+                    int layerStart = (id - 1) / width * width + 1;
+                    if (layerStart > 1) {
+                        int previousStart = layerStart - width;
+                        for (int d = 1 + random.nextInt(Math.max(1, maxFanIn)); d > 0; d--) {
+                            int upstream = previousStart + random.nextInt(width);
+                            if (!dependsOn.contains(upstream)) {
+                                dependsOn.add(upstream);
+                            }
+                        }
+                    }
+                }
+                case INDEPENDENT -> {
+                    // no dependencies
+                }
+            }
+
+            if (cycleStarts.contains(id)) {
+                dependsOn.add(id + 1);
+            }
+            if (cycleStarts.contains(id - 1)) {
+                dependsOn.add(id - 1);
+            }
+            return dependsOn;
+        }
+
+
+
+        private TriggerDto trigger(TriggerType type, List<DependencyDto> dependencies) {
+            TriggerDto.TriggerDtoBuilder trigger = TriggerDto.builder().type(type);
+
+            return switch (type) {
+                case SCHEDULE -> trigger.cronExpression(random.nextInt(60) + " " + random.nextInt(24) + " * * *")
+                        .timezone(random.nextInt(4) == 0 ? "America/New_York" : "Europe/Paris").build();
+                case FILE_WATCH -> trigger.watchPath("/data/inbound/" + random.nextInt(500)).filePattern("*.csv").build();
+                case API, EVENT -> trigger.eventSource("orders-service").eventType("ORDER_CREATED").build();
+                case DEPENDENCY -> trigger.upstreamJobId(dependencies.get(0).getDependsOnJobId()).build();
+                default -> trigger.build();
+            };
+        }
+
+
+
+        private String notes(int id) {
+            StringBuilder notes = new StringBuilder(noteLength);
+            notes.append("Job ").append(id).append(". ");
+            while (notes.length() < noteLength) {
+                notes.append(FILLER, 0, Math.min(FILLER.length(), noteLength - notes.length()));
+            }
+            return notes.toString();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package unit;
+
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.parser.StreamingJsonFileParser;
+import org.example.validator.JobDependencyValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SyntheticExportGenerator Tests")
+class SyntheticExportGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void write_shouldProduceSameJobs_regardlessOfFileSplit() throws IOException {
+        SyntheticExportGenerator.SyntheticExportGeneratorBuilder generator = SyntheticExportGenerator.builder().seed(7).jobs(1000);
+
+        List<Path> split = generator.files(3).build().write(tempDir.resolve("split"), "export");
+        ByteArrayOutputStream single = new ByteArrayOutputStream();
+        generator.files(1).build().write(single);
+
+        List<JobDto> fromSplit = new ArrayList<>();
+        for (Path file : split) {
+            fromSplit.addAll(new StreamingJsonFileParser().parse(file.toString()).getJobs());
+        }
+        Path whole = Files.write(tempDir.resolve("whole.json"), single.toByteArray());
+
+        assertEquals(List.of(334, 333, 333), split.stream().map(this::jobCount).toList());
+        assertEquals(new StreamingJsonFileParser().parse(whole.toString()).getJobs(), fromSplit);
+    }
+
+
+
+    @ParameterizedTest
+    @EnumSource(SyntheticExportGenerator.Topology.class)
+    void toExport_shouldBeValid_forEveryTopology(SyntheticExportGenerator.Topology topology) {
+        ExportDataDto export = SyntheticExportGenerator.builder().jobs(2000).width(16).topology(topology).build().toExport();
+
+        ValidationResult result = new JobDependencyValidator().validate(export);
+
+        assertTrue(result.isValid(), result::toString);
+        assertEquals(2000, export.getJobs().size());
+    }
+
+
+
+    @Test
+    void toExport_shouldBuildChainsAsDeepAsRequested() {
+        ExportDataDto export = SyntheticExportGenerator.builder().jobs(500).width(1).topology(SyntheticExportGenerator.Topology.CHAINS).build().toExport();
+
+        for (JobDto job : export.getJobs().subList(1, 500)) {
+            assertEquals(List.of(job.getJobId() - 1), job.getDependencies().stream().map(DependencyDto::getDependsOnJobId).toList());
+        }
+    }
+
+
+
+    @Test
+    void toExport_shouldFailValidation_withInjectedCycles() {
+        ExportDataDto export = SyntheticExportGenerator.builder().jobs(1000).cycles(3).build().toExport();
+
+        ValidationResult result = new JobDependencyValidator().validate(export);
+
+        assertEquals(3, result.getErrors().stream().filter(error -> error.startsWith("Circular dependency")).count(), result::toString);
+    }
+
+
+
+    private int jobCount(Path file) {
+        try {
+            return new StreamingJsonFileParser().parse(file.toString()).getJobs().size();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
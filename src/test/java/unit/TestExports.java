@@ -0,0 +1,39 @@
+package unit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+
+/*
+ * Small export files for tests that assert on specific job ids and names: every job is "Job_<id>"
+ * with a daily SCHEDULE trigger and no dependencies. Use SyntheticExportGenerator for anything
+ * larger or shaped.
+ */
+public final class TestExports {
+
+    private TestExports() {
+    }
+
+
+
+    public static Path write(Path folder, String fileName, int... jobIds) throws IOException {
+        StringBuilder jobs = new StringBuilder();
+        for (int id : jobIds) {
+            jobs.append(jobs.length() == 0 ? "" : ",").append(String.format(
+                    "{\"jobId\": %d, \"jobName\": \"Job_%d\", \"trigger\": {\"type\": \"SCHEDULE\", \"cronExpression\": \"0 2 * * *\"}}", id, id));
+        }
+
+        Path file = folder.resolve(fileName);
+        Files.writeString(file, "{\"jobs\": [" + jobs + "]}");
+        return file;
+    }
+
+
+
+    /* count consecutive jobs starting at firstJobId. */
+    public static Path writeRange(Path folder, String fileName, int firstJobId, int count) throws IOException {
+        return write(folder, fileName, IntStream.range(firstJobId, firstJobId + count).toArray());
+    }
+}
@@ -0,0 +1,119 @@
+package unit.manifest;
+
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.input.TriggerDto;
+import org.example.manifest.ContentHashes;
+import org.example.manifest.MigrationManifest;
+import org.example.service.TriggerType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MigrationManifest Tests")
+class MigrationManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void save_shouldRoundTripFilesAndJobs() throws IOException {
+        JobDto job = job(1002, "Load_Orders", List.of(1001, 1000));
+        MigrationManifest manifest = new MigrationManifest();
+        manifest.putFile("/exports/a.json", new MigrationManifest.FileEntry(42L, new int[]{1002}));
+        manifest.putJob(MigrationManifest.JobEntry.of(job, ContentHashes.hashJob(job)));
+
+        Path path = tempDir.resolve("out" + MigrationManifest.FILE_SUFFIX);
+        manifest.save(path);
+        MigrationManifest loaded = MigrationManifest.load(path);
+
+        assertEquals(42L, loaded.file("/exports/a.json").hash());
+        assertArrayEquals(new int[]{1002}, loaded.file("/exports/a.json").jobIds());
+        MigrationManifest.JobEntry entry = loaded.job(1002);
+        assertEquals(ContentHashes.hashJob(job), entry.hash());
+        assertEquals("Load_Orders", entry.jobName());
+        assertEquals("ERP", entry.system());
+        assertEquals(TriggerType.SCHEDULE, entry.triggerType());
+        assertArrayEquals(new int[]{1001, 1000}, entry.dependsOn());
+        assertFalse(Files.exists(path.resolveSibling(path.getFileName() + ".tmp")));
+    }
+
+
+
+    @Test
+    void save_shouldReplacePreviousManifest() throws IOException {
+        Path path = tempDir.resolve("out" + MigrationManifest.FILE_SUFFIX);
+        MigrationManifest previous = new MigrationManifest();
+        for (int i = 0; i < 100; i++) {
+            previous.putFile("/exports/" + i + ".json", new MigrationManifest.FileEntry(i, new int[]{i}));
+        }
+        previous.save(path);
+
+        MigrationManifest next = new MigrationManifest();
+        next.putFile("/exports/a.json", new MigrationManifest.FileEntry(7L, new int[0]));
+        next.save(path);
+
+        MigrationManifest loaded = MigrationManifest.load(path);
+        assertEquals(1, loaded.fileCount());
+        assertEquals(7L, loaded.file("/exports/a.json").hash());
+    }
+
+
+
+    @Test
+    void toStub_shouldKeepWhatValidationNeeds() {
+        MigrationManifest.JobEntry entry = MigrationManifest.JobEntry.of(job(7, "Stubbed", List.of(3, 4)), 1L);
+
+        JobDto stub = entry.toStub();
+
+        assertEquals(7, stub.getJobId());
+        assertEquals("Stubbed", stub.getJobName());
+        assertEquals(TriggerType.SCHEDULE, stub.getTrigger().getType());
+        assertEquals(List.of(3, 4), stub.getDependencies().stream().map(DependencyDto::getDependsOnJobId).toList());
+    }
+
+
+
+    @Test
+    void hashJob_shouldChangeWithAnyValue_butNotWithExportFormatting() throws IOException {
+        JobDto job = job(1, "Nightly", List.of());
+        JobDto same = job(1, "Nightly", List.of());
+        JobDto changed = job(1, "Nightly", List.of());
+        changed.getTrigger().setCronExpression("0 3 * * *");
+
+        assertEquals(ContentHashes.hashJob(job), ContentHashes.hashJob(same));
+        assertNotEquals(ContentHashes.hashJob(job), ContentHashes.hashJob(changed));
+    }
+
+
+
+    @Test
+    void load_shouldStartEmpty_whenManifestIsMissingOrCorrupt() throws IOException {
+        Path corrupt = Files.writeString(tempDir.resolve("corrupt" + MigrationManifest.FILE_SUFFIX), "not a manifest");
+
+        assertEquals(0, MigrationManifest.load(tempDir.resolve("missing.bin")).fileCount());
+        assertEquals(0, MigrationManifest.load(corrupt).fileCount());
+        assertTrue(MigrationManifest.load(corrupt).jobs().isEmpty());
+    }
+
+
+
+    private static JobDto job(int id, String name, List<Integer> dependsOn) {
+        return JobDto.builder()
+                .jobId(id)
+                .jobName(name)
+                .system("ERP")
+                .trigger(TriggerDto.builder().type(TriggerType.SCHEDULE).cronExpression("0 2 * * *").build())
+                .dependencies(dependsOn.stream().map(d -> DependencyDto.builder().dependsOnJobId(d).build()).toList())
+                .build();
+    }
+}
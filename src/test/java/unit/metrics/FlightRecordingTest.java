@@ -0,0 +1,130 @@
+package unit.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.config.ExecutionMode;
+import org.example.config.MigrationSettings;
+import org.example.metrics.jfr.FlightRecording;
+import org.example.metrics.jfr.OutputWriteEvent;
+import org.example.metrics.jfr.TriggerMigrateEvent;
+import org.example.orchestrator.MigrationOrchestrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import unit.TestExports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlightRecording Tests")
+class FlightRecordingTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    /* Multi-file batch runs finish asynchronously, so this also checks the run event lands before the recording closes. */
+    @ParameterizedTest
+    @EnumSource(value = ExecutionMode.class, names = {"BATCH", "PIPELINED"})
+    void start_shouldRecordRunParseAndValidationEvents(ExecutionMode mode) throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2), export("b.json", 3));
+        Path destination = tempDir.resolve("recordings/run.jfr");
+
+        try (FlightRecording ignored = FlightRecording.start(destination.toString())) {
+            migrate(files, mode);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(destination);
+        RecordedEvent run = single(events, "org.example.migration.Run");
+        assertEquals(mode.name(), run.getString("mode"));
+        assertEquals(2, run.getInt("files"));
+        assertEquals(3, run.getInt("migrated"));
+        assertEquals(0, run.getInt("failed"));
+
+        List<RecordedEvent> parses = named(events, "org.example.migration.FileParse");
+        assertEquals(2, parses.size());
+        assertEquals(3, parses.stream().mapToInt(event -> event.getInt("jobs")).sum());
+        assertEquals(Files.size(Path.of(files.get(0))) + Files.size(Path.of(files.get(1))),
+                parses.stream().mapToLong(event -> event.getLong("bytes")).sum());
+
+        assertTrue(named(events, "org.example.migration.ValidationPhase").stream()
+                .anyMatch(event -> "dependencies".equals(event.getString("phase")) && event.getInt("jobs") == 3));
+    }
+
+
+
+    @Test
+    void perJobEvents_shouldCarryTriggerTypeAndBytes_whenThresholdLowered() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2));
+        Path destination = tempDir.resolve("jobs.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(TriggerMigrateEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(OutputWriteEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            migrate(files, ExecutionMode.BATCH);
+            recording.stop();
+            recording.dump(destination);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(destination);
+        List<RecordedEvent> migrations = named(events, "org.example.migration.TriggerMigrate");
+        assertEquals(2, migrations.size());
+        assertTrue(migrations.stream().allMatch(event -> "SCHEDULE".equals(event.getString("triggerType")) && event.getBoolean("migrated")));
+
+        List<RecordedEvent> writes = named(events, "org.example.migration.OutputWrite");
+        assertEquals(2, writes.size());
+        assertTrue(writes.stream().allMatch(event -> "FILE_PER_JOB".equals(event.getString("layout")) && event.getLong("bytes") > 0));
+    }
+
+
+
+    @Test
+    void start_shouldDoNothing_withoutDestination() throws IOException {
+        try (FlightRecording ignored = FlightRecording.start(null)) {
+            migrate(List.of(export("a.json", 1)), ExecutionMode.BATCH);
+        }
+
+        try (var files = Files.list(tempDir)) {
+            assertTrue(files.noneMatch(path -> path.toString().endsWith(".jfr")));
+        }
+    }
+
+
+
+    private void migrate(List<String> files, ExecutionMode mode) throws IOException {
+        MigrationSettings settings = MigrationSettings.builder().executionMode(mode).migrationParallelism(1).build();
+        try (MigrationOrchestrator orchestrator = new MigrationOrchestrator(settings, tempDir.resolve("output").toString())) {
+            orchestrator.migrate(files);
+        }
+    }
+
+
+
+    private String export(String name, int... jobIds) throws IOException {
+        return TestExports.write(tempDir, name, jobIds).toString();
+    }
+
+
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = named(events, name);
+        assertEquals(1, matching.size(), () -> name + " events: " + matching);
+        return matching.get(0);
+    }
+}
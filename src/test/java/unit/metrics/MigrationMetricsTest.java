@@ -0,0 +1,147 @@
+package unit.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.metrics.Histogram;
+import org.example.metrics.MigrationMetrics;
+import org.example.metrics.PoolUsage;
+import org.example.report.MigrationResult;
+import org.example.service.TriggerType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MigrationMetrics Tests")
+class MigrationMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void queueDepth_shouldEstimateQuantilesWithinFactorOfTwo() {
+        MigrationMetrics metrics = new MigrationMetrics();
+        Histogram depth = metrics.queueDepth("parsed");
+
+        for (int i = 1; i <= 1000; i++) {
+            depth.record(i);
+        }
+
+        assertEquals(1000, depth.count());
+        assertEquals(500.5, depth.mean(), 1e-9);
+        assertEquals(1000, depth.max());
+        assertTrue(depth.quantile(0.5) >= 500 && depth.quantile(0.5) <= 1000, () -> "p50 " + depth.quantile(0.5));
+        assertEquals(1000, depth.quantile(0.99));
+    }
+
+
+
+    @Test
+    void disabled_shouldRecordNothing() {
+        MigrationMetrics metrics = MigrationMetrics.DISABLED;
+
+        metrics.startRun();
+        metrics.recordStage(MigrationMetrics.PARSE, metrics.startTimer());
+        metrics.recordHandler(TriggerType.SCHEDULE, metrics.startTimer());
+        metrics.recordFileRead(100);
+        try (PoolUsage usage = metrics.pool(MigrationMetrics.MIGRATE, 4)) {
+            usage.wrap(() -> { }).run();
+        }
+
+        assertEquals(0, metrics.startTimer());
+        assertEquals(0, metrics.histogram(MigrationMetrics.STAGE_SECONDS, "stage", MigrationMetrics.PARSE).count());
+        assertEquals(0, metrics.histogram(MigrationMetrics.HANDLER_SECONDS, "trigger_type", "SCHEDULE").count());
+        assertEquals(0, metrics.counter(MigrationMetrics.BYTES_READ_TOTAL, null, null));
+        assertEquals(0, metrics.runSeconds());
+    }
+
+
+
+    @Test
+    void pool_shouldReportBusyShareOfThreadTime() throws InterruptedException {
+        MigrationMetrics metrics = new MigrationMetrics();
+
+        try (PoolUsage usage = metrics.pool(MigrationMetrics.MIGRATE, 2)) {
+            usage.wrap(() -> sleep(40)).run();
+            usage.idle(20_000_000);
+        }
+
+        double utilization = metrics.poolUtilization(MigrationMetrics.MIGRATE);
+        assertTrue(utilization > 0.0 && utilization < 0.5, () -> "utilization " + utilization);
+    }
+
+
+
+    @Test
+    void toPrometheus_shouldWriteCumulativeBucketsAndTotals() {
+        MigrationMetrics metrics = new MigrationMetrics();
+        metrics.queueDepth("converted").record(3);
+        metrics.queueDepth("converted").record(100);
+        metrics.recordFileRead(2048);
+        metrics.finishRun(result(3, 1));
+
+        String text = metrics.toPrometheus();
+
+        assertTrue(text.contains("# TYPE migration_queue_depth histogram\n"));
+        assertTrue(text.contains("migration_queue_depth_bucket{queue=\"converted\",le=\"4.0\"} 1\n"), text);
+        assertTrue(text.contains("migration_queue_depth_bucket{queue=\"converted\",le=\"128.0\"} 2\n"), text);
+        assertTrue(text.contains("migration_queue_depth_bucket{queue=\"converted\",le=\"+Inf\"} 2\n"), text);
+        assertTrue(text.contains("migration_queue_depth_count{queue=\"converted\"} 2\n"), text);
+        assertTrue(text.contains("migration_bytes_read_total 2048\n"), text);
+        assertTrue(text.contains("migration_jobs_total{outcome=\"failure\"} 1\n"), text);
+        assertTrue(text.contains("migration_jobs_total{outcome=\"success\"} 3\n"), text);
+        assertEquals(1, text.split("# TYPE migration_jobs_total ", -1).length - 1);
+        assertFalse(text.contains("migration_handler_seconds"), "handlers that never ran are left out");
+    }
+
+
+
+    @Test
+    void writeTo_shouldPickFormatFromExtension() throws IOException {
+        MigrationMetrics metrics = new MigrationMetrics();
+        metrics.recordStage(MigrationMetrics.VALIDATE, metrics.startTimer());
+
+        Path json = tempDir.resolve("metrics/run.json");
+        Path prometheus = tempDir.resolve("metrics/run.prom");
+        metrics.writeTo(json);
+        metrics.writeTo(prometheus);
+
+        JsonNode root = new ObjectMapper().readTree(json.toFile());
+        JsonNode stage = root.get("histograms").get(0);
+        assertEquals(MigrationMetrics.STAGE_SECONDS, stage.get("name").asText());
+        assertEquals(MigrationMetrics.VALIDATE, stage.get("stage").asText());
+        assertEquals(1, stage.get("count").asLong());
+        assertTrue(Files.readString(prometheus).contains("migration_stage_seconds_count{stage=\"validate\"} 1\n"));
+    }
+
+
+
+    private static MigrationResult result(int successes, int failures) {
+        MigrationResult result = MigrationResult.builder().build();
+        for (int i = 0; i < successes; i++) {
+            result.getSuccesses().put("ok-" + i, "Migrated successfully");
+        }
+        for (int i = 0; i < failures; i++) {
+            result.getFailures().put("failed-" + i, "Validation failed");
+        }
+        return result;
+    }
+
+
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
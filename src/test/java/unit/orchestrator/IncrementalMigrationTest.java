@@ -0,0 +1,187 @@
+package unit.orchestrator;
+
+import org.example.config.MigrationSettings;
+import org.example.exception.ValidationException;
+import org.example.orchestrator.MigrationOrchestrator;
+import org.example.output.OutputSharding;
+import org.example.report.MigrationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Incremental migration Tests")
+class IncrementalMigrationTest {
+
+    private static final String MIGRATED = "Migrated successfully";
+    private static final String UNCHANGED = "Unchanged since last run";
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void migrateIncremental_shouldSkipEverything_whenNothingChanged() throws IOException {
+        List<String> files = List.of(export("a.json", job(1, "A1", "0 1 * * *"), job(2, "A2", "0 2 * * *")),
+                export("b.json", job(3, "B3", "0 3 * * *")));
+
+        MigrationResult first = run(files);
+        MigrationResult second = run(files);
+
+        assertEquals(3, count(first, MIGRATED));
+        assertEquals(3, count(second, UNCHANGED));
+        assertEquals(0, count(second, MIGRATED));
+        assertEquals(List.of("A1_1.json", "A2_2.json", "B3_3.json"), outputFiles());
+    }
+
+
+
+    @Test
+    void migrateIncremental_shouldMigrateOnlyChangedAndNewJobs() throws IOException {
+        String a = export("a.json", job(1, "A1", "0 1 * * *"), job(2, "A2", "0 2 * * *"));
+        String b = export("b.json", job(3, "B3", "0 3 * * *"));
+        run(List.of(a, b));
+
+        export("a.json", job(1, "A1", "30 1 * * *"), job(2, "A2", "0 2 * * *"), job(4, "A4", "0 4 * * *"));
+        MigrationResult result = run(List.of(a, b));
+
+        assertEquals(List.of("A1", "A4"), result.getSuccesses().entrySet().stream()
+                .filter(e -> e.getValue().equals(MIGRATED)).map(e -> e.getKey()).sorted().toList());
+        assertEquals(2, count(result, UNCHANGED));
+        assertTrue(Files.readString(tempDir.resolve("output/A1_1.json")).contains("30 1 * * *"));
+    }
+
+
+
+    @Test
+    void migrateIncremental_shouldRemoveOutput_ofDeletedAndRenamedJobs() throws IOException {
+        String a = export("a.json", job(1, "A1", "0 1 * * *"), job(2, "A2", "0 2 * * *"), job(3, "A3", "0 3 * * *"));
+        run(List.of(a));
+
+        export("a.json", job(1, "A1", "0 1 * * *"), job(3, "Renamed", "0 3 * * *"));
+        run(List.of(a));
+
+        assertEquals(List.of("A1_1.json", "Renamed_3.json"), outputFiles());
+    }
+
+
+
+    @Test
+    void migrateIncremental_shouldFailAndKeepOutput_whenChangedFileCannotBeParsed() throws IOException {
+        String a = export("a.json", job(1, "A1", "0 1 * * *"));
+        String b = export("b.json", job(2, "B2", "0 2 * * *"));
+        run(List.of(a, b));
+
+        Files.writeString(Path.of(b), "{\"jobs\": [" + job(2, "B2", "0 2 * * *") + ",");
+
+        assertThrows(IOException.class, () -> run(List.of(a, b)));
+        assertEquals(List.of("A1_1.json", "B2_2.json"), outputFiles());
+    }
+
+
+
+    @Test
+    void migrateIncremental_shouldValidateAgainstJobsOfUnchangedFiles() throws IOException {
+        String a = export("a.json", job(1, "A1", "0 1 * * *"));
+        String b = export("b.json", job(2, "B2", "0 2 * * *"));
+        run(List.of(a, b));
+
+        export("b.json", job(2, "B2", "0 2 * * *", 1));
+        assertEquals(1, count(run(List.of(a, b)), MIGRATED));
+
+        export("b.json", job(2, "B2", "0 2 * * *", 99));
+        assertThrows(ValidationException.class, () -> run(List.of(a, b)));
+    }
+
+
+
+    @Test
+    void migrateIncremental_shouldRemoveOutput_fromShardDirectories() throws IOException {
+        String a = export("a.json", job(1, "A1", "0 1 * * *"), job(2, "A2", "0 2 * * *"));
+        MigrationSettings.MigrationSettingsBuilder sharded = MigrationSettings.builder().outputSharding(OutputSharding.SYSTEM).outputFanOut(2);
+        run(List.of(a), sharded);
+
+        export("a.json", job(1, "A1", "0 1 * * *"));
+        run(List.of(a), sharded);
+
+        Path output = tempDir.resolve("output");
+        try (Stream<Path> files = Files.walk(output)) {
+            assertEquals(List.of("ERP/01/A1_1.json"), files.filter(Files::isRegularFile)
+                    .map(path -> output.relativize(path).toString().replace('\\', '/')).toList());
+        }
+    }
+
+
+
+    @Test
+    void migrateIncremental_shouldRemoveOutput_ofJobsThatMovedShard() throws IOException {
+        String a = export("a.json", job(1, "A1", "0 1 * * *"), job(2, "A2", "0 2 * * *"));
+        MigrationSettings.MigrationSettingsBuilder sharded = MigrationSettings.builder().outputSharding(OutputSharding.SYSTEM).outputFanOut(2);
+        run(List.of(a), sharded);
+
+        export("a.json", job(1, "A1", "0 1 * * *").replace("ERP", "CRM"), job(2, "A2", "0 2 * * *"));
+        run(List.of(a), sharded);
+
+        Path output = tempDir.resolve("output");
+        try (Stream<Path> files = Files.walk(output)) {
+            assertEquals(List.of("CRM/01/A1_1.json", "ERP/00/A2_2.json"), files.filter(Files::isRegularFile)
+                    .map(path -> output.relativize(path).toString().replace('\\', '/')).sorted().toList());
+        }
+    }
+
+
+
+    private MigrationResult run(List<String> files) throws IOException {
+        return run(files, MigrationSettings.builder());
+    }
+
+
+
+    private MigrationResult run(List<String> files, MigrationSettings.MigrationSettingsBuilder builder) throws IOException {
+        MigrationSettings settings = builder.incremental(true).migrationParallelism(1).build();
+        try (MigrationOrchestrator orchestrator = new MigrationOrchestrator(settings, tempDir.resolve("output").toString())) {
+            return orchestrator.migrateIncremental(files);
+        }
+    }
+
+
+
+    private String export(String name, String... jobs) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, "{\"jobs\": [" + String.join(",", jobs) + "]}");
+        return file.toString();
+    }
+
+
+
+    private static String job(int id, String name, String cron, int... dependsOn) {
+        StringBuilder dependencies = new StringBuilder();
+        for (int dependency : dependsOn) {
+            dependencies.append(dependencies.length() == 0 ? "" : ",").append("{\"dependsOnJobId\": ").append(dependency).append('}');
+        }
+        return String.format("{\"jobId\": %d, \"jobName\": \"%s\", \"system\": \"ERP\", \"trigger\": {\"type\": \"SCHEDULE\", \"cronExpression\": \"%s\"}, \"dependencies\": [%s]}",
+                id, name, cron, dependencies);
+    }
+
+
+
+    private static long count(MigrationResult result, String message) {
+        return result.getSuccesses().values().stream().filter(message::equals).count();
+    }
+
+
+
+    private List<String> outputFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir.resolve("output"))) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package unit.orchestrator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.ExecutionMode;
+import org.example.config.MigrationSettings;
+import org.example.metrics.MigrationMetrics;
+import org.example.orchestrator.MigrationOrchestrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import unit.TestExports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Run metrics Tests")
+class MigrationMetricsRunTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void migrate_shouldWriteJsonMetrics_whenPipelined() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2), export("b.json", 3, 4));
+        Path metricsFile = tempDir.resolve("metrics.json");
+
+        run(files, MigrationSettings.builder().executionMode(ExecutionMode.PIPELINED).metricsFile(metricsFile.toString()));
+
+        JsonNode root = new ObjectMapper().readTree(metricsFile.toFile());
+        assertEquals(4, counter(root, MigrationMetrics.JOBS_TOTAL, "outcome", "success"));
+        assertEquals(2, counter(root, MigrationMetrics.FILES_READ_TOTAL, null, null));
+        assertEquals(Files.size(Path.of(files.get(0))) + Files.size(Path.of(files.get(1))), counter(root, MigrationMetrics.BYTES_READ_TOTAL, null, null));
+        assertTrue(counter(root, MigrationMetrics.BYTES_WRITTEN_TOTAL, null, null) > 0);
+        assertEquals(2, histogramCount(root, MigrationMetrics.STAGE_SECONDS, "stage", MigrationMetrics.PARSE));
+        assertEquals(1, histogramCount(root, MigrationMetrics.STAGE_SECONDS, "stage", MigrationMetrics.VALIDATE));
+        assertEquals(1, histogramCount(root, MigrationMetrics.STAGE_SECONDS, "stage", MigrationMetrics.MIGRATE));
+        assertEquals(4, histogramCount(root, MigrationMetrics.HANDLER_SECONDS, "trigger_type", "SCHEDULE"));
+        assertEquals(4, histogramCount(root, MigrationMetrics.WRITE_SECONDS, null, null));
+        assertEquals(4, histogramCount(root, MigrationMetrics.QUEUE_DEPTH, "queue", "converted"));
+        assertTrue(root.get("jobsPerSecond").asDouble() > 0);
+        assertEquals(List.of("migrate", "parse"), root.get("pools").findValuesAsText("pool"));
+    }
+
+
+
+    @Test
+    void migrate_shouldWriteFinishedRunMetrics_forMultipleFilesInBatchMode() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2), export("b.json", 3, 4));
+        Path metricsFile = tempDir.resolve("metrics.json");
+
+        run(files, MigrationSettings.builder().metricsFile(metricsFile.toString()));
+
+        JsonNode root = new ObjectMapper().readTree(metricsFile.toFile());
+        assertEquals(4, counter(root, MigrationMetrics.JOBS_TOTAL, "outcome", "success"));
+        assertEquals(0, counter(root, MigrationMetrics.JOBS_TOTAL, "outcome", "failure"));
+        assertEquals(2, counter(root, MigrationMetrics.FILES_READ_TOTAL, null, null));
+        assertEquals(1, histogramCount(root, MigrationMetrics.STAGE_SECONDS, "stage", MigrationMetrics.MIGRATE));
+        assertEquals(4, histogramCount(root, MigrationMetrics.WRITE_SECONDS, null, null));
+        assertTrue(root.get("jobsPerSecond").asDouble() > 0);
+    }
+
+
+
+    @Test
+    void migrate_shouldWritePrometheusMetrics_forSingleFile() throws IOException {
+        Path metricsFile = tempDir.resolve("metrics.prom");
+
+        run(List.of(export("a.json", 1, 2, 3)), MigrationSettings.builder().metricsFile(metricsFile.toString()));
+
+        String text = Files.readString(metricsFile);
+        assertTrue(text.contains("migration_stage_seconds_count{stage=\"convert\"} 1\n"), text);
+        assertTrue(text.contains("migration_handler_seconds_count{trigger_type=\"SCHEDULE\"} 3\n"), text);
+        assertTrue(text.contains("migration_jobs_total{outcome=\"success\"} 3\n"), text);
+    }
+
+
+
+    @Test
+    void migrate_shouldWriteNoMetrics_byDefault() throws IOException {
+        run(List.of(export("a.json", 1)), MigrationSettings.builder());
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of("a.json", "output"), files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+    }
+
+
+
+    private void run(List<String> files, MigrationSettings.MigrationSettingsBuilder settings) throws IOException {
+        try (MigrationOrchestrator orchestrator = new MigrationOrchestrator(settings.migrationParallelism(1).build(), tempDir.resolve("output").toString())) {
+            orchestrator.migrate(files);
+        }
+    }
+
+
+
+    private String export(String name, int... jobIds) throws IOException {
+        return TestExports.write(tempDir, name, jobIds).toString();
+    }
+
+
+
+    private static long counter(JsonNode root, String name, String label, String value) {
+        return find(root.get("counters"), name, label, value).get("value").asLong();
+    }
+
+
+
+    private static long histogramCount(JsonNode root, String name, String label, String value) {
+        return find(root.get("histograms"), name, label, value).get("count").asLong();
+    }
+
+
+
+    private static JsonNode find(JsonNode entries, String name, String label, String value) {
+        for (JsonNode entry : entries) {
+            if (entry.get("name").asText().equals(name) && (label == null || entry.path(label).asText().equals(value))) {
+                return entry;
+            }
+        }
+        throw new AssertionError("No " + name + " " + label + "=" + value + " in " + entries);
+    }
+}
@@ -7,6 +7,7 @@ import org.example.dto.input.TriggerDto;
 import org.example.dto.internal.ValidationResult;
 import org.example.exception.ValidationException;
 import org.example.orchestrator.MigrationOrchestrator;
+import org.example.output.OutputSink;
 import org.example.parser.BatchFileParser;
 import org.example.parser.DataParser;
 import org.example.report.MigrationAnalysis;
@@ -31,6 +32,7 @@ class MigrationOrchestratorTest {
     private BatchFileParser mockBatchParser;
     private Validator mockValidator;
     private TriggerMigrationService mockTriggerService;
+    private OutputSink mockOutputSink;
     private MigrationOrchestrator orchestrator;
 
 
@@ -41,12 +43,14 @@ class MigrationOrchestratorTest {
         mockBatchParser = mock(BatchFileParser.class);
         mockValidator = mock(Validator.class);
         mockTriggerService = mock(TriggerMigrationService.class);
+        mockOutputSink = mock(OutputSink.class);
 
         MigrationDependencies deps = mock(MigrationDependencies.class);
         when(deps.dataParser()).thenReturn(mockDataParser);
         when(deps.batchFileParser()).thenReturn(mockBatchParser);
         when(deps.validator()).thenReturn(mockValidator);
         when(deps.triggerService()).thenReturn(mockTriggerService);
+        when(deps.outputSink()).thenReturn(mockOutputSink);
 
         orchestrator = new MigrationOrchestrator(deps, "export.json");
     }
@@ -115,6 +119,7 @@ class MigrationOrchestratorTest {
         List<JobDto> jobs = List.of(createMockJob());
         when(mockBatchParser.parseMultipleFiles(paths)).thenReturn(CompletableFuture.completedFuture(jobs));
         when(mockValidator.validate(any())).thenReturn(VALID);
+        when(mockTriggerService.analyze(anyList())).thenReturn(mock(MigrationAnalysis.class));
         when(mockTriggerService.migrateAll(anyList())).thenReturn(mock(MigrationResult.class));
 
         orchestrator.migrate(paths);
@@ -125,10 +130,56 @@ class MigrationOrchestratorTest {
 
 
     @Test
-    void close_shouldShutdownDependencies() {
+    void migrate_multipleFiles_shouldFinishMigratingBeforeReturning() throws IOException {
+        List<String> paths = List.of("file1.json", "test2.json");
+        List<JobDto> jobs = List.of(createMockJob());
+        when(mockBatchParser.parseMultipleFiles(paths)).thenReturn(CompletableFuture.supplyAsync(() -> {
+            sleep(200);
+            return jobs;
+        }));
+        when(mockValidator.validate(any())).thenReturn(VALID);
+        when(mockTriggerService.analyze(anyList())).thenReturn(mock(MigrationAnalysis.class));
+        when(mockTriggerService.migrateAll(anyList())).thenReturn(mock(MigrationResult.class));
+
+        orchestrator.migrate(paths);
+
+        verify(mockTriggerService).migrateAll(anyList());
+    }
+
+
+
+    @Test
+    void migrate_multipleFiles_shouldThrowValidationExceptionOnFailure() {
+        List<String> paths = List.of("file1.json", "test2.json");
+        ValidationResult failedValidation = new ValidationResult();
+        failedValidation.addError("Invalid");
+        List<JobDto> jobs = List.of(createMockJob());
+        when(mockBatchParser.parseMultipleFiles(paths)).thenReturn(CompletableFuture.completedFuture(jobs));
+        when(mockValidator.validate(any())).thenReturn(failedValidation);
+
+        assertThrows(ValidationException.class, () -> orchestrator.migrate(paths));
+        verify(mockTriggerService, never()).migrateAll(anyList());
+    }
+
+
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+
+    @Test
+    void close_shouldShutdownDependencies() throws IOException {
         orchestrator.close();
 
         verify(mockBatchParser).shutdown();
         verify(mockValidator).shutdown();
+        verify(mockOutputSink).flush();
+        verify(mockOutputSink).close();
     }
 }
@@ -0,0 +1,177 @@
+package unit.orchestrator;
+
+import org.example.config.MigrationSettings;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.Trigger;
+import org.example.exception.MigrationException;
+import org.example.exception.ValidationException;
+import org.example.orchestrator.MigrationPipeline;
+import org.example.parser.StreamingJsonFileParser;
+import org.example.report.MigrationOutcome;
+import org.example.report.MigrationResult;
+import org.example.service.TriggerMigrationService;
+import org.example.validator.ConcurrentJobValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import unit.TestExports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MigrationPipeline Tests")
+class MigrationPipelineTest {
+
+    @TempDir
+    Path tempDir;
+    private Path outputDir;
+    private ConcurrentJobValidator validator;
+    private MigrationPipeline pipeline;
+
+
+
+    @BeforeEach
+    void setUp() {
+        outputDir = tempDir.resolve("output");
+        validator = new ConcurrentJobValidator();
+
+        MigrationSettings settings = MigrationSettings.builder()
+                .parseParallelism(3)
+                .migrationParallelism(4)
+                .queueCapacity(2)
+                .build();
+
+        pipeline = new MigrationPipeline(new StreamingJsonFileParser(), validator, new TriggerMigrationService(),
+                this::toTrigger, settings);
+    }
+
+
+
+    @AfterEach
+    void tearDown() {
+        validator.shutdown();
+    }
+
+
+
+    @Test
+    void run_shouldMigrateJobsFromAllFiles_whenQueuesAreSmallerThanInput() throws IOException {
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            files.add(TestExports.writeRange(tempDir, "export" + i + ".json", 1000 + i * 10, 5).toString());
+        }
+
+        MigrationResult result = pipeline.run(files);
+
+        assertEquals(30, result.getSuccessCount());
+        assertFalse(result.hasFailures());
+        try (Stream<Path> written = Files.list(outputDir)) {
+            assertEquals(30, written.count());
+        }
+    }
+
+
+
+    @Test
+    void run_shouldSkipUnreadableFiles_andMigrateTheRest() throws IOException {
+        Path valid = TestExports.writeRange(tempDir, "valid.json", 1000, 3);
+
+        MigrationResult result = pipeline.run(List.of(valid.toString(), tempDir.resolve("missing.json").toString()));
+
+        assertEquals(3, result.getSuccessCount());
+    }
+
+
+
+    @Test
+    void run_shouldSkipWholeFile_whenMalformedPartwayThrough() throws IOException {
+        Path valid = TestExports.writeRange(tempDir, "valid.json", 1000, 3);
+        Path truncated = tempDir.resolve("truncated.json");
+        Files.writeString(truncated, """
+                {"jobs": [{"jobId": 2000, "jobName": "First", "trigger": {"type": "MANUAL"}},
+                          {"jobId": 2001, "jobName": "Second", "trigger": {"type": "MANUAL"}},
+                          {"jobId": 2002, "jobName": 
+                """);
+
+        MigrationResult result = pipeline.run(List.of(valid.toString(), truncated.toString()));
+
+        assertEquals(3, result.getSuccessCount());
+        assertFalse(result.getSuccesses().containsKey("First"));
+        try (Stream<Path> written = Files.list(outputDir)) {
+            assertEquals(3, written.count());
+        }
+    }
+
+
+
+    @Test
+    void run_shouldAbortBeforeWriting_whenValidationFails() throws IOException {
+        Path valid = TestExports.writeRange(tempDir, "valid.json", 1000, 3);
+        Path dangling = tempDir.resolve("dangling.json");
+        Files.writeString(dangling, """
+                {"jobs": [{"jobId": 2000, "jobName": "Orphan", "trigger": {"type": "MANUAL"},
+                           "dependencies": [{"dependsOnJobId": 9999, "requiredStatus": "SUCCESS"}]}]}
+                """);
+
+        assertThrows(ValidationException.class, () -> pipeline.run(List.of(valid.toString(), dangling.toString())));
+        assertFalse(Files.exists(outputDir));
+    }
+
+
+
+    @Test
+    @Timeout(10)
+    void run_shouldFail_whenParseWorkerDiesOnAnError() throws IOException {
+        Path export = TestExports.writeRange(tempDir, "export.json", 1000, 5);
+        StreamingJsonFileParser dyingParser = new StreamingJsonFileParser() {
+            @Override
+            public Stream<JobDto> stream(String filePath) {
+                throw new StackOverflowError();
+            }
+        };
+        MigrationPipeline dyingPipeline = new MigrationPipeline(dyingParser, validator, new TriggerMigrationService(),
+                this::toTrigger, MigrationSettings.builder().parseParallelism(2).queueCapacity(2).build());
+
+        MigrationException e = assertThrows(MigrationException.class, () -> dyingPipeline.run(List.of(export.toString())));
+        assertInstanceOf(StackOverflowError.class, e.getCause());
+    }
+
+
+
+    @Test
+    @Timeout(10)
+    void run_shouldFail_whenMigrateWorkersDieOnAnError() throws IOException {
+        Path export = TestExports.writeRange(tempDir, "export.json", 1000, 50);
+        TriggerMigrationService dyingService = new TriggerMigrationService() {
+            @Override
+            public void analyzeAndMigrate(Trigger trigger, MigrationOutcome outcome) {
+                throw new StackOverflowError();
+            }
+        };
+        MigrationPipeline dyingPipeline = new MigrationPipeline(new StreamingJsonFileParser(), validator, dyingService,
+                this::toTrigger, MigrationSettings.builder().migrationParallelism(2).queueCapacity(2).build());
+
+        MigrationException e = assertThrows(MigrationException.class, () -> dyingPipeline.run(List.of(export.toString())));
+        assertInstanceOf(StackOverflowError.class, e.getCause());
+    }
+
+
+
+    private Trigger toTrigger(JobDto job) {
+        return Trigger.builder()
+                .type(job.getTrigger().getType())
+                .jobName(job.getJobName())
+                .cronExpression(job.getTrigger().getCronExpression())
+                .outputFolderPath(outputDir.toString())
+                .build();
+    }
+}
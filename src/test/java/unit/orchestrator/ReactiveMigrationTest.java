@@ -0,0 +1,244 @@
+package unit.orchestrator;
+
+import org.example.config.MigrationSettings;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.exception.MigrationException;
+import org.example.exception.ValidationException;
+import org.example.metrics.MigrationMetrics;
+import org.example.orchestrator.ReactiveMigration;
+import org.example.output.FilePerJobSink;
+import org.example.output.OutputSink;
+import org.example.parser.ConcurrentJsonFileParser;
+import org.example.parser.DataParser;
+import org.example.parser.FileReadMode;
+import org.example.parser.StreamingJsonFileParser;
+import org.example.report.MigrationResult;
+import org.example.service.TriggerMigrationService;
+import org.example.validator.ConcurrentJobValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import unit.TestExports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReactiveMigration Tests")
+class ReactiveMigrationTest {
+
+    @TempDir
+    Path tempDir;
+    private Path outputDir;
+    private ConcurrentJobValidator validator;
+    private ConcurrentJsonFileParser batchParser;
+    private MigrationSettings settings;
+
+
+
+    @BeforeEach
+    void setUp() {
+        outputDir = tempDir.resolve("output");
+        validator = new ConcurrentJobValidator();
+        settings = MigrationSettings.builder()
+                .parseParallelism(2)
+                .migrationParallelism(2)
+                .queueCapacity(4)
+                .build();
+    }
+
+
+
+    @AfterEach
+    void tearDown() {
+        validator.shutdown();
+        if (batchParser != null) {
+            batchParser.shutdown();
+        }
+    }
+
+
+
+    @Test
+    void run_shouldMigrateJobsFromAllFiles() throws IOException {
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            files.add(TestExports.writeRange(tempDir, "export" + i + ".json", 1000 + i * 10, 5).toString());
+        }
+
+        MigrationResult result = migration(new StreamingJsonFileParser(), new FilePerJobSink(), job -> false).run(files);
+
+        assertEquals(30, result.getSuccessCount());
+        assertFalse(result.hasFailures());
+        try (Stream<Path> written = Files.list(outputDir)) {
+            assertEquals(30, written.count());
+        }
+    }
+
+
+
+    @Test
+    void run_shouldNotParseFurtherAheadThanRequested_whenOutputIsSlow() throws IOException {
+        List<String> files = List.of(TestExports.writeRange(tempDir, "a.json", 1000, 100).toString(), TestExports.writeRange(tempDir, "b.json", 2000, 100).toString());
+        AtomicInteger parsed = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+
+        StreamingJsonFileParser countingParser = new StreamingJsonFileParser() {
+            @Override
+            public Stream<JobDto> stream(String filePath) throws IOException {
+                return super.stream(filePath).peek(job -> parsed.incrementAndGet());
+            }
+        };
+        OutputSink slowSink = new OutputSink() {
+            @Override
+            public void write(Trigger trigger, RedwoodJobDto job) {
+                /* The first 200 parsed jobs belong to the validation pass. */
+                maxAhead.accumulateAndGet(parsed.get() - 200 - written.get(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        MigrationResult result = migration(countingParser, slowSink, job -> false).run(files);
+
+        assertEquals(200, result.getSuccessCount());
+        /* Requested window plus the one job each parse worker may have read ahead. */
+        assertTrue(maxAhead.get() <= settings.getQueueCapacity() + settings.getParseParallelism(), "parsed ahead: " + maxAhead.get());
+    }
+
+
+
+    @Test
+    void run_shouldReportSkippedJobs_asMigratedBeforeResume() throws IOException {
+        Path export = TestExports.writeRange(tempDir, "export.json", 1000, 4);
+
+        MigrationResult result = migration(new StreamingJsonFileParser(), new FilePerJobSink(), job -> job.getJobId() < 1002)
+                .run(List.of(export.toString()));
+
+        assertEquals(4, result.getSuccessCount());
+        assertEquals("Migrated before resume", result.getSuccesses().get("Job_1000"));
+        try (Stream<Path> written = Files.list(outputDir)) {
+            assertEquals(2, written.count());
+        }
+    }
+
+
+
+    @Test
+    void run_shouldAbortBeforeWriting_whenValidationFails() throws IOException {
+        Path valid = TestExports.writeRange(tempDir, "valid.json", 1000, 3);
+        Path dangling = tempDir.resolve("dangling.json");
+        Files.writeString(dangling, """
+                {"jobs": [{"jobId": 2000, "jobName": "Orphan", "trigger": {"type": "MANUAL"},
+                           "dependencies": [{"dependsOnJobId": 9999, "requiredStatus": "SUCCESS"}]}]}
+                """);
+
+        ReactiveMigration migration = migration(new StreamingJsonFileParser(), new FilePerJobSink(), job -> false);
+
+        assertThrows(ValidationException.class, () -> migration.run(List.of(valid.toString(), dangling.toString())));
+        assertFalse(Files.exists(outputDir));
+    }
+
+
+
+    @Test
+    void run_shouldFailValidation_whenJobHasNoTrigger() throws IOException {
+        Path missingTrigger = tempDir.resolve("missing-trigger.json");
+        Files.writeString(missingTrigger, """
+                {"jobs": [{"jobId": 3000, "jobName": "NoTrigger"}]}
+                """);
+
+        ReactiveMigration migration = migration(new StreamingJsonFileParser(), new FilePerJobSink(), job -> false);
+
+        assertThrows(ValidationException.class, () -> migration.run(List.of(missingTrigger.toString())));
+    }
+
+
+
+    @Test
+    @Timeout(10)
+    void run_shouldFailBeforeWriting_whenFileIsMalformedPartwayThrough() throws IOException {
+        Path valid = TestExports.writeRange(tempDir, "valid.json", 1000, 3);
+        Path truncated = tempDir.resolve("truncated.json");
+        Files.writeString(truncated, """
+                {"jobs": [{"jobId": 2000, "jobName": "First", "trigger": {"type": "MANUAL"}},
+                          {"jobId": 2001, "jobName": "Second", "trigger": {"type": "MANUAL"}},
+                          {"jobId": 2002, "jobName": 
+                """);
+
+        ReactiveMigration migration = migration(new StreamingJsonFileParser(), new FilePerJobSink(), job -> false);
+
+        MigrationException e = assertThrows(MigrationException.class, () -> migration.run(List.of(valid.toString(), truncated.toString())));
+        assertTrue(e.getCause().getMessage().contains("truncated.json"));
+        assertFalse(Files.exists(outputDir));
+    }
+
+
+
+    @Test
+    @Timeout(10)
+    void run_shouldFail_whenConverterThrows() throws IOException {
+        Path export = TestExports.writeRange(tempDir, "export.json", 1000, 20);
+        Function<JobDto, Trigger> converter = job -> {
+            throw new IllegalStateException("Trigger missing for job " + job.getJobId());
+        };
+
+        ReactiveMigration migration = migration(new StreamingJsonFileParser(), new FilePerJobSink(), job -> false, converter);
+
+        MigrationException e = assertThrows(MigrationException.class, () -> migration.run(List.of(export.toString())));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+
+
+    private ReactiveMigration migration(DataParser parser, OutputSink sink, Predicate<JobDto> alreadyMigrated) {
+        return migration(parser, sink, alreadyMigrated, this::toTrigger);
+    }
+
+
+
+    private ReactiveMigration migration(DataParser parser, OutputSink sink, Predicate<JobDto> alreadyMigrated,
+                                        Function<JobDto, Trigger> converter) {
+        batchParser = new ConcurrentJsonFileParser(parser, FileReadMode.PLATFORM, settings.getParseParallelism(), 64);
+        TriggerMigrationService service = new TriggerMigrationService(settings.getMigrationParallelism(), sink);
+        return new ReactiveMigration(batchParser, validator, service, converter, alreadyMigrated, settings, MigrationMetrics.DISABLED);
+    }
+
+
+
+    private Trigger toTrigger(JobDto job) {
+        return Trigger.builder()
+                .type(job.getTrigger().getType())
+                .jobId(job.getJobId())
+                .jobName(job.getJobName())
+                .cronExpression(job.getTrigger().getCronExpression())
+                .outputFolderPath(outputDir.toString())
+                .build();
+    }
+}
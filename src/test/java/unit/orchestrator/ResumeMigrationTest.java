@@ -0,0 +1,134 @@
+package unit.orchestrator;
+
+import org.example.config.ExecutionMode;
+import org.example.config.MigrationSettings;
+import org.example.manifest.MigrationCheckpoint;
+import org.example.orchestrator.MigrationOrchestrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import unit.TestExports;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Checkpoint and resume Tests")
+class ResumeMigrationTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void migrate_shouldRemoveCheckpoint_afterCompletedRun_andWriteSameFileNamesOnRerun() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2, 3));
+
+        run(files, MigrationSettings.builder().checkpoint(true));
+        run(files, MigrationSettings.builder().checkpoint(true));
+
+        assertEquals(List.of("Job_1_1.json", "Job_2_2.json", "Job_3_3.json"), outputFiles());
+        assertFalse(Files.exists(checkpointPath()));
+    }
+
+
+
+    @Test
+    void resume_shouldMigrateEveryJob_afterCompletedRun() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2, 3));
+        run(files, MigrationSettings.builder().checkpoint(true));
+        deleteOutputFiles();
+
+        run(files, MigrationSettings.builder().resume(true));
+
+        assertEquals(List.of("Job_1_1.json", "Job_2_2.json", "Job_3_3.json"), outputFiles());
+    }
+
+
+
+    @Test
+    void resume_shouldSkipJobsInCheckpoint() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2, 3));
+        MigrationCheckpoint.save(checkpointPath(), new int[]{1, 2});
+
+        run(files, MigrationSettings.builder().resume(true));
+
+        assertEquals(List.of("Job_3_3.json"), outputFiles());
+        assertFalse(Files.exists(checkpointPath()));
+    }
+
+
+
+    @Test
+    void resume_shouldSkipJobsInCheckpoint_whenPipelined() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2), export("b.json", 3, 4));
+        MigrationCheckpoint.save(checkpointPath(), new int[]{1, 4});
+
+        run(files, MigrationSettings.builder().resume(true).executionMode(ExecutionMode.PIPELINED));
+
+        assertEquals(List.of("Job_2_2.json", "Job_3_3.json"), outputFiles());
+        assertFalse(Files.exists(checkpointPath()));
+    }
+
+
+
+    @Test
+    void resume_shouldSkipJobsInCheckpoint_whenReactive() throws IOException {
+        List<String> files = List.of(export("a.json", 1, 2), export("b.json", 3, 4));
+        MigrationCheckpoint.save(checkpointPath(), new int[]{2, 3});
+
+        run(files, MigrationSettings.builder().resume(true).executionMode(ExecutionMode.REACTIVE));
+
+        assertEquals(List.of("Job_1_1.json", "Job_4_4.json"), outputFiles());
+        assertFalse(Files.exists(checkpointPath()));
+    }
+
+
+
+    private void run(List<String> files, MigrationSettings.MigrationSettingsBuilder settings) throws IOException {
+        try (MigrationOrchestrator orchestrator = new MigrationOrchestrator(settings.migrationParallelism(1).build(), output())) {
+            orchestrator.migrate(files);
+        }
+    }
+
+
+
+    private String export(String name, int... jobIds) throws IOException {
+        return TestExports.write(tempDir, name, jobIds).toString();
+    }
+
+
+
+    private String output() {
+        return tempDir.resolve("output").toString();
+    }
+
+
+
+    private Path checkpointPath() {
+        return MigrationCheckpoint.pathFor(output());
+    }
+
+
+
+    private void deleteOutputFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir.resolve("output"))) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+
+
+    private List<String> outputFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir.resolve("output"))) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package unit.orchestrator;
+
+import org.example.config.ExecutionMode;
+import org.example.config.MigrationSettings;
+import org.example.orchestrator.MigrationOrchestrator;
+import org.example.output.OutputLayout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import unit.SyntheticExportGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * End-to-end run over a generated production-sized export. Skipped unless -Dscale.jobs is set, e.g.
+ *
+ *   mvn test -Dtest=ScaleMigrationTest -Dscale.jobs=1000000 -Dscale.files=16 -Dscale.noteLength=2000
+ *
+ * Optional: scale.files (8), scale.topology (DAG), scale.width (64), scale.noteLength (60), scale.seed (42).
+ */
+@DisplayName("Scale migration Tests")
+@EnabledIfSystemProperty(named = "scale.jobs", matches = "\\d+")
+class ScaleMigrationTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void migrate_shouldMigrateEveryGeneratedJob() throws IOException {
+        int jobs = Integer.getInteger("scale.jobs");
+        SyntheticExportGenerator generator = SyntheticExportGenerator.builder()
+                .jobs(jobs)
+                .files(Integer.getInteger("scale.files", 8))
+                .topology(SyntheticExportGenerator.Topology.valueOf(System.getProperty("scale.topology", "DAG")))
+                .width(Integer.getInteger("scale.width", 64))
+                .noteLength(Integer.getInteger("scale.noteLength", 60))
+                .seed(Long.getLong("scale.seed", 42))
+                .build();
+
+        long start = System.currentTimeMillis();
+        List<String> files = generator.write(tempDir.resolve("input"), "export").stream().map(Path::toString).toList();
+        long generated = System.currentTimeMillis();
+
+        MigrationSettings settings = MigrationSettings.builder()
+                .executionMode(ExecutionMode.PIPELINED)
+                .outputLayout(OutputLayout.NDJSON_SHARDS)
+                .singlePass(true)
+                .build();
+        Path output = tempDir.resolve("output");
+        try (MigrationOrchestrator orchestrator = new MigrationOrchestrator(settings, output.toString())) {
+            orchestrator.migrate(files);
+        }
+
+        System.out.printf("Scale run: %d jobs, %d MB of exports generated in %d ms, migrated in %d ms%n", jobs,
+                totalBytes(tempDir.resolve("input")) >> 20, generated - start, System.currentTimeMillis() - generated);
+        assertEquals(jobs, outputLines(output));
+    }
+
+
+
+    private static long totalBytes(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+
+
+    private static long outputLines(Path folder) throws IOException {
+        long lines = 0;
+        try (Stream<Path> shards = Files.list(folder)) {
+            for (Path shard : shards.toList()) {
+                try (Stream<String> content = Files.lines(shard)) {
+                    lines += content.count();
+                }
+            }
+        }
+        return lines;
+    }
+}
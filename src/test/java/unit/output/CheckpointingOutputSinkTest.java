@@ -0,0 +1,148 @@
+package unit.output;
+
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.manifest.MigrationCheckpoint;
+import org.example.output.CheckpointingOutputSink;
+import org.example.output.OutputSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CheckpointingOutputSink Tests")
+class CheckpointingOutputSinkTest {
+
+    private static final long INTERVAL = 1_000;
+
+    @TempDir
+    Path tempDir;
+
+    private OutputSink delegate;
+    private AtomicLong clock;
+    private Path output;
+    private Path checkpointPath;
+
+
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(OutputSink.class);
+        clock = new AtomicLong();
+        output = tempDir.resolve("output");
+        checkpointPath = MigrationCheckpoint.pathFor(output.toString());
+    }
+
+
+
+    @Test
+    void write_shouldSaveCheckpoint_onlyOncePerInterval() throws IOException {
+        CheckpointingOutputSink sink = new CheckpointingOutputSink(delegate, false, INTERVAL, clock::get);
+
+        sink.write(trigger(1), job());
+        clock.addAndGet(INTERVAL / 2);
+        sink.write(trigger(2), job());
+        assertFalse(Files.exists(checkpointPath));
+
+        clock.addAndGet(INTERVAL);
+        sink.write(trigger(3), job());
+
+        assertEquals("[1, 2, 3]", completed());
+        assertFalse(Files.exists(checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp")));
+    }
+
+
+
+    @Test
+    void flush_shouldFlushOutput_beforeSavingFinalCheckpoint() throws IOException {
+        CheckpointingOutputSink sink = new CheckpointingOutputSink(delegate, false, INTERVAL, clock::get);
+        sink.write(trigger(5), job());
+
+        sink.flush();
+
+        assertEquals("[5]", completed());
+        InOrder order = inOrder(delegate);
+        order.verify(delegate).write(any(), any());
+        order.verify(delegate, atLeastOnce()).flush();
+    }
+
+
+
+    @Test
+    void flush_shouldNotSaveAgain_whenNoJobWasWrittenSinceLastSave() throws IOException {
+        CheckpointingOutputSink sink = new CheckpointingOutputSink(delegate, false, INTERVAL, clock::get);
+        sink.write(trigger(5), job());
+        sink.flush();
+
+        Files.delete(checkpointPath);
+        sink.flush();
+
+        assertFalse(Files.exists(checkpointPath));
+    }
+
+
+
+    @Test
+    void write_shouldNotRecordJob_whenOutputFails() throws IOException {
+        CheckpointingOutputSink sink = new CheckpointingOutputSink(delegate, false, INTERVAL, clock::get);
+        doThrow(new RuntimeException("disk full")).when(delegate).write(argThat(t -> t.getJobId() == 2), any());
+
+        sink.write(trigger(1), job());
+        assertThrows(RuntimeException.class, () -> sink.write(trigger(2), job()));
+        sink.flush();
+
+        assertEquals("[1]", completed());
+    }
+
+
+
+    @Test
+    void resume_shouldKeepJobsOfPreviousCheckpoint() throws IOException {
+        MigrationCheckpoint.save(checkpointPath, new int[]{1, 2});
+        CheckpointingOutputSink sink = new CheckpointingOutputSink(delegate, true, INTERVAL, clock::get);
+
+        sink.write(trigger(3), job());
+        sink.flush();
+
+        assertEquals("[1, 2, 3]", completed());
+    }
+
+
+
+    @Test
+    void load_shouldIgnoreCorruptCheckpoint() throws IOException {
+        Files.write(checkpointPath, new byte[]{1, 2, 3});
+
+        assertEquals(0, MigrationCheckpoint.load(checkpointPath).size());
+    }
+
+
+
+    private String completed() {
+        int[] jobIds = MigrationCheckpoint.load(checkpointPath).snapshot();
+        Arrays.sort(jobIds);
+        return Arrays.toString(jobIds);
+    }
+
+
+
+    private Trigger trigger(int jobId) {
+        return Trigger.builder().jobId(jobId).jobName("Job_" + jobId).outputFolderPath(output.toString()).build();
+    }
+
+
+
+    private static RedwoodJobDto job() {
+        return RedwoodJobDto.builder().name("Job").build();
+    }
+}
@@ -0,0 +1,159 @@
+package unit.output;
+
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.output.FilePerJobSink;
+import org.example.output.JobFileLayout;
+import org.example.output.OutputSharding;
+import org.example.service.TriggerType;
+import org.example.utils.JsonCodec;
+import org.example.utils.JsonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FilePerJobSink Tests")
+class FilePerJobSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void relativePath_shouldFanOutByJobId() {
+        JobFileLayout layout = new JobFileLayout(256);
+
+        assertEquals("00/Job_256.json", layout.relativePath(trigger(256), "Job"));
+        assertEquals("ff/Job_255.json", layout.relativePath(trigger(255), "Job"));
+        assertEquals("Job_255.json", JobFileLayout.FLAT.relativePath(trigger(255), "Job"));
+        assertEquals("007/Job_7.json", new JobFileLayout(4096).relativePath(trigger(7), "Job"));
+    }
+
+
+
+    @Test
+    void relativePath_shouldShardByCategory_andFanOutBelowIt() {
+        Trigger trigger = trigger(18);
+        trigger.setSystem("ERP/core");
+
+        assertEquals("ERP_core/Job_18.json", new JobFileLayout(OutputSharding.SYSTEM, 0).relativePath(trigger, "Job"));
+        assertEquals("manual/02/Job_18.json", new JobFileLayout(OutputSharding.TRIGGER_TYPE, 16).relativePath(trigger, "Job"));
+        assertEquals("lo/Load_Orders_18.json", new JobFileLayout(OutputSharding.NAME_PREFIX, 0).relativePath(trigger, "Load_Orders"));
+        assertEquals("_none/Job_18.json", new JobFileLayout(OutputSharding.SYSTEM, 0).relativePath(trigger(18), "Job"));
+    }
+
+
+
+    @Test
+    void relativePath_shouldKeepJobNamesInsideTheLayout() {
+        assertEquals("______etc_passwd_3.json", JobFileLayout.FLAT.relativePath(trigger(3), "../../etc/passwd"));
+        assertEquals("03/Nightly_Load_v2_3.json", new JobFileLayout(16).relativePath(trigger(3), "Nightly Load.v2"));
+    }
+
+
+
+    @Test
+    void write_shouldPlaceJobsInFanOutDirectories() throws IOException {
+        try (FilePerJobSink sink = new FilePerJobSink(new JobFileLayout(4))) {
+            for (int id = 0; id < 8; id++) {
+                sink.write(trigger(id), job("Job", "LEGACY"));
+            }
+        }
+
+        assertEquals(List.of("00/Job_0.json", "00/Job_4.json", "01/Job_1.json", "01/Job_5.json",
+                "02/Job_2.json", "02/Job_6.json", "03/Job_3.json", "03/Job_7.json"), outputFiles());
+    }
+
+
+
+    @Test
+    void write_shouldLeaveNoTemporaryFiles_whenDurable() throws IOException {
+        try (FilePerJobSink sink = new FilePerJobSink(new JobFileLayout(2), true)) {
+            for (int id = 0; id < 4; id++) {
+                sink.write(trigger(id), job("Job", "LEGACY"));
+            }
+            sink.flush();
+        }
+
+        assertEquals(List.of("00/Job_0.json", "00/Job_2.json", "01/Job_1.json", "01/Job_3.json"), outputFiles());
+    }
+
+
+
+    @Test
+    void write_shouldLeaveOneWholeDocument_whenWritersRaceForTheSameFile() throws IOException {
+        try (FilePerJobSink sink = new FilePerJobSink()) {
+            IntStream.range(0, 200).parallel()
+                    .forEach(i -> sink.write(trigger(1), job("Job", "SYSTEM_" + i)));
+        }
+
+        assertEquals(List.of("Job_1.json"), outputFiles());
+        assertTrue(JsonUtils.parseJsonFile(output().resolve("Job_1.json").toString(), RedwoodJobDto.class).getSystem().startsWith("SYSTEM_"));
+    }
+
+
+
+    @Test
+    void write_shouldReplaceFile_onRerun() throws IOException {
+        try (FilePerJobSink sink = new FilePerJobSink()) {
+            sink.write(trigger(1), job("Job", "FIRST"));
+            sink.write(trigger(1), job("Job", "SECOND"));
+        }
+
+        assertEquals("SECOND", JsonUtils.parseJsonFile(output().resolve("Job_1.json").toString(), RedwoodJobDto.class).getSystem());
+    }
+
+
+
+    @Test
+    void write_shouldProduceSameBytes_withEitherCodec_inOneJvm() throws IOException {
+        Trigger jackson = trigger(1);
+        Trigger streaming = trigger(2);
+        try (FilePerJobSink jacksonSink = new FilePerJobSink(JobFileLayout.FLAT, false, JsonCodec.JACKSON);
+             FilePerJobSink streamingSink = new FilePerJobSink(JobFileLayout.FLAT, false, JsonCodec.STREAMING)) {
+            jacksonSink.write(jackson, job("Job", "ERP"));
+            streamingSink.write(streaming, job("Job", "ERP"));
+        }
+
+        assertEquals(Files.readString(output().resolve("Job_1.json")), Files.readString(output().resolve("Job_2.json")));
+    }
+
+
+
+    private Path output() {
+        return tempDir.resolve("output");
+    }
+
+
+
+    private List<String> outputFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(output())) {
+            return files.filter(Files::isRegularFile)
+                    .map(path -> output().relativize(path).toString().replace('\\', '/'))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+
+
+    private Trigger trigger(int jobId) {
+        return Trigger.builder().jobId(jobId).type(TriggerType.MANUAL).jobName("Job").outputFolderPath(output().toString()).build();
+    }
+
+
+
+    private static RedwoodJobDto job(String name, String system) {
+        return RedwoodJobDto.builder().name(name).type("JOB").system(system).build();
+    }
+}
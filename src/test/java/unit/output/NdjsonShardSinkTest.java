@@ -0,0 +1,133 @@
+package unit.output;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.exception.MigrationException;
+import org.example.output.FilePerJobSink;
+import org.example.output.NdjsonShardSink;
+import org.example.service.TriggerType;
+import org.example.utils.JsonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Output sink Tests")
+class NdjsonShardSinkTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void write_shouldSpreadJobsOverShards_withOneJsonDocumentPerLine() throws IOException {
+        Trigger trigger = trigger(tempDir.toString());
+
+        try (NdjsonShardSink sink = new NdjsonShardSink(4)) {
+            IntStream.range(0, 500).parallel().forEach(i -> sink.write(trigger, job("Job_" + i)));
+        }
+
+        Set<String> names = new HashSet<>();
+        for (Path shard : listFiles(tempDir)) {
+            for (String line : Files.readAllLines(shard)) {
+                names.add(MAPPER.readValue(line, RedwoodJobDto.class).getName());
+            }
+        }
+
+        assertEquals(4, listFiles(tempDir).size());
+        assertEquals(500, names.size());
+    }
+
+
+
+    @Test
+    void write_shouldTruncateShardsFromPreviousRun() throws IOException {
+        Trigger trigger = trigger(tempDir.toString());
+
+        for (int run = 0; run < 2; run++) {
+            try (NdjsonShardSink sink = new NdjsonShardSink(1)) {
+                sink.write(trigger, job("Job_1"));
+            }
+        }
+
+        assertEquals(1, Files.readAllLines(tempDir.resolve("redwood-jobs-000.ndjson")).size());
+    }
+
+
+
+    @Test
+    void remove_shouldFailWithMigrationException_whenSinkCannotRemove() throws IOException {
+        try (NdjsonShardSink sink = new NdjsonShardSink(1)) {
+            assertThrows(MigrationException.class, () -> sink.remove(trigger(tempDir.toString())));
+        }
+    }
+
+
+
+    @Test
+    void write_shouldSkipJob_whenOutputFolderIsMissing() throws IOException {
+        try (FilePerJobSink sink = new FilePerJobSink()) {
+            assertDoesNotThrow(() -> sink.write(trigger(null), job("Job_1")));
+        }
+    }
+
+
+
+    @Test
+    void filePerJobSink_shouldWriteOneReadableFilePerJob() throws IOException {
+        Path folder = tempDir.resolve("nested/output");
+
+        try (FilePerJobSink sink = new FilePerJobSink()) {
+            sink.write(trigger(folder.toString()), job("Job_1"));
+            sink.write(trigger(folder.toString()), job("Job_2"));
+        }
+
+        List<Path> files = listFiles(folder);
+        assertEquals(2, files.size());
+        assertTrue(files.get(0).getFileName().toString().startsWith("Job_"));
+        assertNotNull(JsonUtils.parseJsonFile(files.get(0).toString(), RedwoodJobDto.class).getName());
+    }
+
+
+
+    private List<Path> listFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return new ArrayList<>(files.sorted().toList());
+        }
+    }
+
+
+
+    private Trigger trigger(String outputFolder) {
+        return Trigger.builder()
+                .type(TriggerType.MANUAL)
+                .jobName("Job")
+                .outputFolderPath(outputFolder)
+                .build();
+    }
+
+
+
+    private RedwoodJobDto job(String name) {
+        return RedwoodJobDto.builder()
+                .name(name)
+                .type("JOB")
+                .system("LEGACY")
+                .build();
+    }
+}
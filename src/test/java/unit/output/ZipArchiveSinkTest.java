@@ -0,0 +1,81 @@
+package unit.output;
+
+import org.example.dto.internal.Trigger;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.output.JobFileLayout;
+import org.example.output.OutputSharding;
+import org.example.output.ZipArchiveSink;
+import org.example.service.TriggerType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ZipArchiveSink Tests")
+class ZipArchiveSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void write_shouldArchiveEveryJob_withoutWritingJobFiles() throws IOException {
+        Path outputFolder = tempDir.resolve("output");
+        Trigger trigger = Trigger.builder()
+                .type(TriggerType.MANUAL)
+                .jobName("Job")
+                .outputFolderPath(outputFolder.toString())
+                .build();
+
+        try (ZipArchiveSink sink = new ZipArchiveSink()) {
+            IntStream.range(0, 200).parallel()
+                    .forEach(i -> sink.write(trigger, RedwoodJobDto.builder().name("Job_" + (i % 10)).build()));
+        }
+
+        assertFalse(Files.exists(outputFolder));
+
+        Set<String> entryNames = new HashSet<>();
+        try (ZipFile zip = new ZipFile(ZipArchiveSink.archivePathFor(outputFolder).toFile())) {
+            for (ZipEntry entry : zip.stream().toList()) {
+                entryNames.add(entry.getName());
+                assertTrue(new String(zip.getInputStream(entry).readAllBytes()).contains("\"name\":\"Job_"));
+            }
+        }
+
+        assertEquals(200, entryNames.size());
+    }
+
+
+
+    @Test
+    void write_shouldNameEntriesLikeShardedFilePerJobOutput() throws IOException {
+        Path outputFolder = tempDir.resolve("output");
+        JobFileLayout layout = new JobFileLayout(OutputSharding.TRIGGER_TYPE, 4);
+        Trigger trigger = Trigger.builder()
+                .jobId(6)
+                .type(TriggerType.MANUAL)
+                .jobName("Job")
+                .outputFolderPath(outputFolder.toString())
+                .build();
+
+        try (ZipArchiveSink sink = new ZipArchiveSink(layout)) {
+            sink.write(trigger, RedwoodJobDto.builder().name("Job").build());
+        }
+
+        try (ZipFile zip = new ZipFile(ZipArchiveSink.archivePathFor(outputFolder).toFile())) {
+            assertEquals(List.of("manual/02/Job_6.json"), zip.stream().map(ZipEntry::getName).toList());
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package unit.parser;
 
+import org.example.dto.input.ExportDataDto;
 import org.example.dto.input.JobDto;
+import org.example.exception.MigrationException;
 import org.example.parser.ConcurrentJsonFileParser;
+import org.example.parser.FileReadMode;
+import org.example.parser.StreamingJsonFileParser;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,14 +13,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("ConcurrentJsonFileParser Tests")
@@ -109,6 +123,271 @@ class ConcurrentJsonFileParserTest {
 
 
 
+    @Test
+    void parseMultipleFiles_shouldReturnJobsInFileOrder_andSkipFailedFiles_whenReadingOnVirtualThreads() throws Exception {
+        ConcurrentJsonFileParser virtualParser = new ConcurrentJsonFileParser(new StreamingJsonFileParser(), FileReadMode.VIRTUAL, 2, 4);
+        List<String> filePaths = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            filePaths.add(createTestFile("file" + i + ".json", 1000 + i, "Job_" + i).toString());
+        }
+        filePaths.add(3, "/non/existent/file.json");
+
+        try {
+            List<JobDto> result = virtualParser.parseMultipleFiles(filePaths).get(10, TimeUnit.SECONDS);
+
+            assertEquals(10, result.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("Job_" + i, result.get(i).getJobName());
+            }
+        } finally {
+            virtualParser.shutdown();
+        }
+    }
+
+
+
+    @Test
+    void parseMultipleFiles_shouldNeverHoldMoreThanMaxOpenFiles_whenReadingOnVirtualThreads() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        StreamingJsonFileParser slowParser = new StreamingJsonFileParser() {
+            @Override
+            public ExportDataDto parse(byte[] content, String source) throws IOException {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                    return super.parse(content, source);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+        ConcurrentJsonFileParser virtualParser = new ConcurrentJsonFileParser(slowParser, FileReadMode.VIRTUAL, 4, 2);
+        List<String> filePaths = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            filePaths.add(createTestFile("file" + i + ".json", 1000 + i, "Job_" + i).toString());
+        }
+
+        try {
+            assertEquals(20, virtualParser.parseMultipleFiles(filePaths).get(30, TimeUnit.SECONDS).size());
+            assertTrue(peak.get() <= 2, "peak in-flight files: " + peak.get());
+        } finally {
+            virtualParser.shutdown();
+        }
+    }
+
+
+
+    @Test
+    void parseMultipleFiles_shouldBoundBufferedBytes_whenReadingOnVirtualThreads() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        StreamingJsonFileParser slowParser = new StreamingJsonFileParser() {
+            @Override
+            public ExportDataDto parse(byte[] content, String source) throws IOException {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                    return super.parse(content, source);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+        ConcurrentJsonFileParser virtualParser = new ConcurrentJsonFileParser(slowParser, FileReadMode.VIRTUAL, 4, 64, 1);
+        List<String> filePaths = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            filePaths.add(createPaddedFile("file" + i + ".json", 1000 + i, 400 * 1024).toString());
+        }
+
+        try {
+            assertEquals(8, virtualParser.parseMultipleFiles(filePaths).get(30, TimeUnit.SECONDS).size());
+            assertTrue(peak.get() <= 2, "peak buffered files: " + peak.get());
+        } finally {
+            virtualParser.shutdown();
+        }
+    }
+
+
+
+    @Test
+    void parseMultipleFiles_shouldStreamFilesLargerThanTheBufferBudget_whenReadingOnVirtualThreads() throws Exception {
+        AtomicInteger buffered = new AtomicInteger();
+        StreamingJsonFileParser countingParser = new StreamingJsonFileParser() {
+            @Override
+            public ExportDataDto parse(byte[] content, String source) throws IOException {
+                buffered.incrementAndGet();
+                return super.parse(content, source);
+            }
+        };
+        ConcurrentJsonFileParser virtualParser = new ConcurrentJsonFileParser(countingParser, FileReadMode.VIRTUAL, 2, 4, 1);
+        List<String> filePaths = List.of(createPaddedFile("large.json", 1001, 1536 * 1024).toString(),
+                createTestFile("small.json", 1002, "Job_2").toString());
+
+        try {
+            assertEquals(List.of(1001, 1002), virtualParser.parseMultipleFiles(filePaths).get(30, TimeUnit.SECONDS)
+                    .stream().map(JobDto::getJobId).toList());
+            assertEquals(1, buffered.get());
+        } finally {
+            virtualParser.shutdown();
+        }
+    }
+
+
+
+    @Test
+    void parseMultipleFiles_shouldFailAndReleasePermits_whenParsingThrowsAnError() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        StreamingJsonFileParser failingOnceParser = new StreamingJsonFileParser() {
+            @Override
+            public ExportDataDto parse(byte[] content, String source) throws IOException {
+                if (calls.getAndIncrement() == 0) {
+                    throw new OutOfMemoryError("Java heap space");
+                }
+                return super.parse(content, source);
+            }
+        };
+        ConcurrentJsonFileParser virtualParser = new ConcurrentJsonFileParser(failingOnceParser, FileReadMode.VIRTUAL, 1, 1);
+        List<String> filePaths = List.of(createTestFile("file1.json", 1001, "Job_1").toString());
+
+        try {
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> virtualParser.parseMultipleFiles(filePaths).get(30, TimeUnit.SECONDS));
+            assertInstanceOf(OutOfMemoryError.class, failure.getCause());
+            assertEquals(1, virtualParser.parseMultipleFiles(filePaths).get(30, TimeUnit.SECONDS).size());
+        } finally {
+            virtualParser.shutdown();
+        }
+    }
+
+
+
+    @Test
+    void parseEach_shouldFailOnlyTheUnreadableFile() throws Exception {
+        Path valid = createTestFile("valid.json", 1001, "Job_1");
+        Path invalid = tempDir.resolve("invalid.json");
+        Files.writeString(invalid, "{ invalid json }");
+
+        List<CompletableFuture<List<JobDto>>> files = parser.parseEach(List.of(valid.toString(), invalid.toString()));
+
+        assertEquals("Job_1", files.get(0).get(10, TimeUnit.SECONDS).get(0).getJobName());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> files.get(1).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(UncheckedIOException.class, failure.getCause());
+    }
+
+
+
+    @Test
+    void publish_shouldEmitNoMoreJobsThanRequested() throws Exception {
+        List<String> filePaths = createTestFiles(10);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        parser.publish(filePaths).subscribe(subscriber);
+        subscriber.subscription.request(3);
+        Thread.sleep(200);
+        assertEquals(3, subscriber.jobs.size());
+        assertFalse(subscriber.done.await(0, TimeUnit.SECONDS));
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        assertEquals(10, subscriber.jobs.size());
+        assertNull(subscriber.error);
+    }
+
+
+
+    @Test
+    void publish_shouldSignalError_whenFileFailsToParse() throws Exception {
+        Path valid = createTestFile("valid.json", 1001, "Job_1");
+        Path invalid = tempDir.resolve("invalid.json");
+        Files.writeString(invalid, "{ invalid json }");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        parser.publish(List.of(valid.toString(), invalid.toString())).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        assertInstanceOf(MigrationException.class, subscriber.error);
+        assertTrue(subscriber.error.getMessage().contains("invalid.json"));
+    }
+
+
+
+    @Test
+    void publish_shouldStopEmitting_whenCancelled() throws Exception {
+        List<String> filePaths = createTestFiles(10);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        parser.publish(filePaths).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        Thread.sleep(200);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Thread.sleep(200);
+
+        assertEquals(2, subscriber.jobs.size());
+        assertFalse(subscriber.done.await(0, TimeUnit.SECONDS));
+    }
+
+
+
+    @Test
+    void publish_shouldSignalError_whenRequestIsNotPositive() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        parser.publish(createTestFiles(2)).subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+
+
+    @Test
+    void publish_shouldSignalError_whenSubscriberThrows() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(JobDto job) {
+                throw new IllegalStateException("boom");
+            }
+        };
+
+        parser.publish(createTestFiles(3)).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+    }
+
+
+
+    private List<String> createTestFiles(int count) throws IOException {
+        List<String> filePaths = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            filePaths.add(createTestFile("file" + i + ".json", 1000 + i, "Job_" + i).toString());
+        }
+        return filePaths;
+    }
+
+
+
+    private Path createPaddedFile(String filename, int jobId, int noteLength) throws IOException {
+        String json = String.format("""
+                {"jobs": [{"jobId": %d, "jobName": "Job_%d", "trigger": {"type": "SCHEDULE", "cronExpression": "0 2 * * *"}, "notes": "%s"}]}
+                """, jobId, jobId, "x".repeat(noteLength));
+
+        Path filePath = tempDir.resolve(filename);
+        Files.writeString(filePath, json);
+        return filePath;
+    }
+
+
+
     private Path createTestFile(String filename, int jobId, String jobName) throws IOException {
         String json = String.format("""
                 {
@@ -128,5 +407,44 @@ class ConcurrentJsonFileParserTest {
         Files.writeString(filePath, json);
         return filePath;
     }
+
+
+
+    private static class RecordingSubscriber implements Flow.Subscriber<JobDto> {
+
+        private final List<JobDto> jobs = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+
+
+        @Override
+        public void onNext(JobDto job) {
+            jobs.add(job);
+        }
+
+
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
 }
 
@@ -0,0 +1,75 @@
+package unit.parser;
+
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.parser.MappedJsonFileParser;
+import org.example.parser.StreamingJsonFileParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static unit.TestDataConstants.SIMPLE_DEPENDENCY_CHAIN;
+
+@DisplayName("MappedJsonFileParser Tests")
+class MappedJsonFileParserTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 64, 1L << 30})
+    void parse_shouldMatchStreamingParser_forAnySegmentSize(long segmentSize) throws IOException {
+        Path filePath = tempDir.resolve("chain.json");
+        Files.writeString(filePath, SIMPLE_DEPENDENCY_CHAIN);
+
+        ExportDataDto mapped = new MappedJsonFileParser(segmentSize).parse(filePath.toString());
+
+        assertEquals(new StreamingJsonFileParser().parse(filePath.toString()), mapped);
+        assertEquals(3, mapped.getJobs().size());
+    }
+
+
+
+    @Test
+    void stream_shouldReadMultiByteCharacters_splitAcrossSegments() throws IOException {
+        Path filePath = tempDir.resolve("unicode.json");
+        Files.writeString(filePath, "{\"jobs\": [{\"jobId\": 1, \"jobName\": \"Sauvegarde_été_日次\"}]}");
+
+        try (Stream<JobDto> jobs = new MappedJsonFileParser(3).stream(filePath.toString())) {
+            assertEquals("Sauvegarde_été_日次", jobs.findFirst().orElseThrow().getJobName());
+        }
+    }
+
+
+
+    @Test
+    void parse_shouldThrowIOException_whenFileDoesNotExist() {
+        assertThrows(IOException.class, () -> new MappedJsonFileParser().parse("/non/existent/path.json"));
+    }
+
+
+
+    @Test
+    void parse_shouldThrowIOException_whenFileIsEmpty() throws IOException {
+        Path filePath = Files.createFile(tempDir.resolve("empty.json"));
+
+        assertThrows(IOException.class, () -> new MappedJsonFileParser().parse(filePath.toString()));
+    }
+
+
+
+    @Test
+    void constructor_shouldRejectSegmentsLargerThanOneMapping() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedJsonFileParser(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,154 @@
+package unit.parser;
+
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.parser.StreamingJsonFileParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static unit.TestDataConstants.SIMPLE_DEPENDENCY_CHAIN;
+
+@DisplayName("StreamingJsonFileParser Tests")
+class StreamingJsonFileParserTest {
+
+    @TempDir
+    Path tempDir;
+    private StreamingJsonFileParser parser;
+
+
+
+    @BeforeEach
+    void setUp() {
+        parser = new StreamingJsonFileParser();
+    }
+
+
+
+    @Test
+    void parse_shouldReturnAllJobs_whenValidFileIsPassed() throws IOException {
+        Path filePath = createTempFile("chain.json", SIMPLE_DEPENDENCY_CHAIN);
+
+        ExportDataDto result = parser.parse(filePath.toString());
+
+        assertEquals(3, result.getJobs().size());
+        assertEquals(2001, result.getJobs().get(0).getJobId());
+        assertEquals(1, result.getJobs().get(1).getDependencies().size());
+    }
+
+
+
+    @Test
+    void parse_shouldMatchFileParse_whenContentIsAlreadyInMemory() throws IOException {
+        Path filePath = createTempFile("chain.json", SIMPLE_DEPENDENCY_CHAIN);
+
+        ExportDataDto fromBytes = parser.parse(Files.readAllBytes(filePath), "chain.json");
+
+        assertEquals(parser.parse(filePath.toString()), fromBytes);
+    }
+
+
+
+    @Test
+    void parse_shouldThrowIOException_whenFileDoesNotExist() {
+        assertThrows(IOException.class, () -> parser.parse("/non/existent/path.json"));
+    }
+
+
+
+    @Test
+    void parse_shouldThrowIOException_whenJsonIsMalformed() throws IOException {
+        Path filePath = createTempFile("broken.json", "{\"jobs\": [{\"jobId\": 1001, ");
+
+        assertThrows(IOException.class, () -> parser.parse(filePath.toString()));
+    }
+
+
+
+    @Test
+    void parse_shouldReturnEmptyJobs_whenJobsFieldIsMissing() throws IOException {
+        Path filePath = createTempFile("no_jobs.json", "{\"version\": 2, \"meta\": {\"source\": \"x\"}}");
+
+        ExportDataDto result = parser.parse(filePath.toString());
+
+        assertTrue(result.getJobs().isEmpty());
+    }
+
+
+
+    @Test
+    void parse_shouldSkipUnknownFields_beforeAndAfterJobsArray() throws IOException {
+        String json = """
+                {
+                    "meta": {"exportedBy": "legacy", "tags": [1, 2, 3]},
+                    "jobs": [
+                        {"jobId": 1001, "jobName": "Job_1", "unknownField": "value", "trigger": {"type": "MANUAL"}}
+                    ],
+                    "footer": "ignored"
+                }
+                """;
+        Path filePath = createTempFile("unknown.json", json);
+
+        ExportDataDto result = parser.parse(filePath.toString());
+
+        assertEquals(1, result.getJobs().size());
+        assertEquals("Job_1", result.getJobs().get(0).getJobName());
+    }
+
+
+
+    @Test
+    void stream_shouldHandOutJobsLazily_andStopWhenClosed() throws IOException {
+        Path filePath = createTempFile("chain.json", SIMPLE_DEPENDENCY_CHAIN);
+
+        try (Stream<JobDto> jobs = parser.stream(filePath.toString())) {
+            Optional<JobDto> first = jobs.findFirst();
+
+            assertTrue(first.isPresent());
+            assertEquals("Backup_Production_Databases_Oracle", first.get().getJobName());
+        }
+    }
+
+
+
+    @Test
+    void stream_shouldSurfaceMalformedElement_asUncheckedIOException() throws IOException {
+        Path filePath = createTempFile("bad_element.json", "{\"jobs\": [{\"jobId\": \"not-a-number\"}]}");
+
+        try (Stream<JobDto> jobs = parser.stream(filePath.toString())) {
+            assertThrows(UncheckedIOException.class, () -> jobs.toList());
+        }
+    }
+
+
+
+    @Test
+    void stream_shouldMatchMaterializedParse() throws IOException {
+        Path filePath = createTempFile("chain.json", SIMPLE_DEPENDENCY_CHAIN);
+
+        List<JobDto> streamed;
+        try (Stream<JobDto> jobs = parser.stream(filePath.toString())) {
+            streamed = jobs.toList();
+        }
+
+        assertEquals(parser.parse(filePath.toString()).getJobs(), streamed);
+    }
+
+
+
+    private Path createTempFile(String filename, String content) throws IOException {
+        Path filePath = tempDir.resolve(filename);
+        Files.writeString(filePath, content);
+        return filePath;
+    }
+}
@@ -5,6 +5,7 @@ import org.example.dto.internal.ValidationResult;
 import org.example.dto.output.RedwoodJobDto;
 import org.example.exception.MigrationException;
 import org.example.report.MigrationAnalysis;
+import org.example.report.MigrationOutcome;
 import org.example.report.MigrationResult;
 import org.example.service.TriggerHandler;
 import org.example.service.TriggerMigrationService;
@@ -12,7 +13,10 @@ import org.example.service.TriggerType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -269,6 +273,27 @@ class TriggerMigrationServiceTest {
 
 
 
+    @Test
+    void migrateAll_shouldMatchSequentialResult_whenRunConcurrently(@TempDir Path outputDir) {
+        List<Trigger> triggers = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Trigger trigger = (i % 7 == 0)
+                    ? Trigger.builder().type(TriggerType.SCHEDULE).jobName("Broken_" + i).build()
+                    : createScheduleTrigger("Job_" + i);
+            trigger.setOutputFolderPath(outputDir.toString());
+            triggers.add(trigger);
+        }
+
+        MigrationResult sequential = new TriggerMigrationService(1).migrateAll(triggers);
+        MigrationResult concurrent = new TriggerMigrationService(8).migrateAll(triggers);
+
+        assertEquals(sequential.getSuccesses(), concurrent.getSuccesses());
+        assertEquals(sequential.getFailures(), concurrent.getFailures());
+        assertEquals(72, concurrent.getFailureCount());
+    }
+
+
+
     @Test
     void mockHandlers_shouldDelegateToHandler() throws MigrationException {
         TriggerHandler mockHandler = mock(TriggerHandler.class);
@@ -326,6 +351,71 @@ class TriggerMigrationServiceTest {
         verify(handler2, never()).migrate(any());
     }
 
+    @Test
+    void analyzeAndMigrate_shouldValidateEachTriggerOnce() throws MigrationException {
+        TriggerHandler handler = mock(TriggerHandler.class);
+        ValidationResult valid = new ValidationResult();
+
+        when(handler.getSupportedType()).thenReturn(TriggerType.SCHEDULE);
+        when(handler.validate(any())).thenReturn(valid);
+        when(handler.migrate(any(), any())).thenReturn(RedwoodJobDto.builder().name("job").build());
+
+        TriggerMigrationService serviceWithMock = new TriggerMigrationService(List.of(handler));
+        MigrationOutcome outcome = serviceWithMock.analyzeAndMigrate(List.of(createScheduleTrigger("Job_1"), createScheduleTrigger("Job_2")));
+
+        assertEquals(2, outcome.analysis().getSupported().size());
+        assertEquals(2, outcome.result().getSuccessCount());
+        verify(handler, times(2)).validate(any());
+        verify(handler, times(2)).migrate(any(), same(valid));
+        verify(handler, never()).migrate(any());
+    }
+
+
+
+    @Test
+    void analyzeAndMigrate_shouldMatchSeparateAnalyzeAndMigrateAll(@TempDir Path outputDir) {
+        List<Trigger> triggers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Trigger trigger = switch (i % 4) {
+                case 0 -> createScheduleTrigger("Job_" + i);
+                case 1 -> Trigger.builder().type(TriggerType.FILE_WATCH).jobName("Watch_" + i).watchPath("/in").build();
+                case 2 -> Trigger.builder().type(TriggerType.APPROVAL).jobName("Approval_" + i).build();
+                default -> Trigger.builder().type(TriggerType.SCHEDULE).jobName("Broken_" + i).cronExpression("bad").build();
+            };
+            trigger.setOutputFolderPath(outputDir.toString());
+            triggers.add(trigger);
+        }
+
+        TriggerMigrationService concurrentService = new TriggerMigrationService(4);
+        MigrationAnalysis analysis = concurrentService.analyze(triggers);
+        MigrationResult result = concurrentService.migrateAll(triggers);
+        MigrationOutcome fused = concurrentService.analyzeAndMigrate(triggers);
+
+        assertEquals(analysis.getSupported().size(), fused.analysis().getSupported().size());
+        assertEquals(analysis.getWorkarounds().size(), fused.analysis().getWorkarounds().size());
+        assertEquals(analysis.getUnsupported().size(), fused.analysis().getUnsupported().size());
+        assertEquals(analysis.getInvalid().size(), fused.analysis().getInvalid().size());
+        assertEquals(result.getSuccesses(), fused.result().getSuccesses());
+        assertEquals(result.getFailures(), fused.result().getFailures());
+    }
+
+
+
+    @Test
+    void findHandler_shouldDispatchByType_withoutCallingCanHandle() {
+        TriggerHandler typed = mock(TriggerHandler.class);
+        TriggerHandler predicate = mock(TriggerHandler.class);
+
+        when(typed.getSupportedType()).thenReturn(TriggerType.SCHEDULE);
+        when(predicate.canHandle(any())).thenReturn(true);
+
+        TriggerMigrationService serviceWithMock = new TriggerMigrationService(List.of(predicate, typed));
+
+        assertSame(typed, serviceWithMock.findHandler(createScheduleTrigger("Test")).orElseThrow());
+        assertSame(predicate, serviceWithMock.findHandler(createManualTrigger("Other")).orElseThrow());
+        verify(typed, never()).canHandle(any());
+    }
+
     // =====================================================================
     // HELPERS
     // =====================================================================
@@ -0,0 +1,57 @@
+package unit.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.dto.output.RedwoodTriggerDto;
+import org.example.utils.JsonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static unit.TestDataConstants.SIMPLE_DEPENDENCY_CHAIN;
+
+@DisplayName("JsonUtils Tests")
+class JsonUtilsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+
+
+    @Test
+    void writeRedwoodJob_shouldProduceSameBytesAsGenericMapper() throws IOException {
+        RedwoodJobDto job = RedwoodJobDto.builder().name("Nightly_Load").type("ETL").system("ORACLE").priority(5)
+                .trigger(RedwoodTriggerDto.builder().type("SCHEDULE").schedule("0 2 * * *").timezone("UTC").build())
+                .build();
+        job.addNote("migrated");
+        job.addMetadata("originalJobId", "1001");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.writeRedwoodJob(out, job);
+
+        assertArrayEquals(MAPPER.writeValueAsBytes(job), out.toByteArray());
+    }
+
+
+
+    @Test
+    void readExport_shouldMatchGenericMapper() throws IOException {
+        byte[] content = SIMPLE_DEPENDENCY_CHAIN.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(MAPPER.readValue(content, ExportDataDto.class), JsonUtils.readExport(content));
+    }
+
+
+
+    @Test
+    void warmUp_shouldBeRepeatable() {
+        assertDoesNotThrow(() -> {
+            JsonUtils.warmUp();
+            JsonUtils.warmUp();
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package unit.utils;
+
+import org.example.utils.ParallelZipArchiver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelZipArchiver Tests")
+class ParallelZipArchiverTest {
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 6, 9})
+    void archive_shouldProduceReadableZip_forEveryCompressionLevel(int level) throws IOException {
+        Map<String, String> expected = createOutputFolder(tempDir.resolve("output"), 200);
+        Path zipFile = tempDir.resolve("archive/output.zip");
+
+        new ParallelZipArchiver(level, 4).archive(tempDir.resolve("output"), zipFile);
+
+        Map<String, String> actual = new HashMap<>();
+        try (ZipFile zip = new ZipFile(zipFile.toFile())) {
+            for (ZipEntry entry : zip.stream().toList()) {
+                assertEquals(level == ParallelZipArchiver.STORED ? ZipEntry.STORED : ZipEntry.DEFLATED, entry.getMethod());
+                actual.put(entry.getName(), new String(zip.getInputStream(entry).readAllBytes()));
+            }
+        }
+
+        assertEquals(expected, actual);
+    }
+
+
+
+    @Test
+    void archive_shouldProduceIdenticalBytes_regardlessOfThreadCount() throws IOException {
+        Path source = tempDir.resolve("output");
+        createOutputFolder(source, 100);
+
+        Path sequential = tempDir.resolve("sequential.zip");
+        Path parallel = tempDir.resolve("parallel.zip");
+        new ParallelZipArchiver(6, 1).archive(source, sequential);
+        new ParallelZipArchiver(6, 8).archive(source, parallel);
+
+        assertArrayEquals(Files.readAllBytes(sequential), Files.readAllBytes(parallel));
+    }
+
+
+
+    @Test
+    void constructor_shouldRejectUnknownCompressionLevel() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelZipArchiver(10, 1));
+    }
+
+
+
+    private Map<String, String> createOutputFolder(Path folder, int files) throws IOException {
+        Map<String, String> contents = new HashMap<>();
+
+        for (int i = 0; i < files; i++) {
+            String name = (i % 3 == 0 ? "nested/" : "") + "Job_" + i + ".json";
+            String json = "{\"name\":\"Job_" + i + "\",\"type\":\"JOB\",\"notes\":[\"" + "x".repeat(i) + "\"]}";
+
+            Path file = folder.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, json);
+            contents.put(name, json);
+        }
+        return contents;
+    }
+}
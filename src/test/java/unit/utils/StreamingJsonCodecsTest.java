@@ -0,0 +1,117 @@
+package unit.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.output.RedwoodJobDto;
+import org.example.parser.StreamingJsonFileParser;
+import org.example.utils.JsonCodec;
+import org.example.utils.JsonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Golden files: src/test/resources/golden, produced by the Jackson data-binding path. */
+@DisplayName("Streaming JSON codec Tests")
+class StreamingJsonCodecsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+
+
+    @Test
+    void readExport_shouldMatchDataBinding_forGoldenExport() throws IOException {
+        byte[] export = golden("export.json");
+
+        ExportDataDto expected = JsonUtils.readExport(export, JsonCodec.JACKSON);
+        ExportDataDto actual = JsonUtils.readExport(export, JsonCodec.STREAMING);
+
+        assertEquals(7, actual.getJobs().size());
+        assertEquals(expected, actual);
+    }
+
+
+
+    @Test
+    void stream_shouldMatchDataBinding_forGoldenExport() throws IOException {
+        Path file = Files.write(tempDir.resolve("export.json"), golden("export.json"));
+        ExportDataDto expected = new StreamingJsonFileParser(JsonCodec.JACKSON).parse(file.toString());
+
+        assertEquals(expected, new StreamingJsonFileParser(JsonCodec.STREAMING).parse(file.toString()));
+    }
+
+
+
+    @Test
+    void writeRedwoodJob_shouldReproduceGoldenOutput_byteForByte() throws IOException {
+        List<String> lines = new String(golden("redwood-jobs.ndjson"), StandardCharsets.UTF_8).lines().toList();
+
+        for (String line : lines) {
+            RedwoodJobDto job = MAPPER.readValue(line, RedwoodJobDto.class);
+
+            assertEquals(line, write(job, JsonCodec.JACKSON));
+            assertEquals(line, write(job, JsonCodec.STREAMING));
+        }
+    }
+
+
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"jobs\": [{\"jobId\": 1, \"trigger\": {\"type\": \"SCHEDULE\", \"unknown\": 1}}]}",
+            "{\"jobs\": [{\"jobId\": 1, \"trigger\": {\"type\": \"HOURLY\"}}]}",
+            "{\"jobs\": [{\"jobId\": 1, \"dependencies\": [{\"dependsOnJobId\": 2, \"status\": \"OK\"}]}]}",
+            "{\"jobs\": [{\"jobId\": 99999999999}]}",
+            "{\"jobs\": [{\"jobId\": 1, \"jobName\": {\"nested\": true}}]}",
+            "{\"jobs\": {\"jobId\": 1}}",
+            "{\"jobs\": [{\"jobId\": 1, \"executionConstraints\": {\"excludeHolidays\": []}}]}",
+            "{\"jobs\": [{\"jobId\": 1,"
+    })
+    void readExport_shouldRejectWhatDataBindingRejects(String json) {
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+
+        IOException expected = assertThrows(IOException.class, () -> JsonUtils.readExport(content, JsonCodec.JACKSON));
+        IOException actual = assertThrows(IOException.class, () -> JsonUtils.readExport(content, JsonCodec.STREAMING));
+
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(withoutKnownProperties(expected), withoutKnownProperties(actual));
+    }
+
+
+
+    /* The known-property hint is listed in Jackson's internal hash order, the rest must match exactly. */
+    private static String withoutKnownProperties(IOException e) {
+        return e.getMessage().replaceAll("\\(\\d+ known properties: [^)]*\\]\\)", "");
+    }
+
+
+
+    private static String write(RedwoodJobDto job, JsonCodec codec) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.writeRedwoodJob(out, job, codec);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+
+
+    private static byte[] golden(String name) throws IOException {
+        try (InputStream in = StreamingJsonCodecsTest.class.getResourceAsStream("/golden/" + name)) {
+            assertNotNull(in, "missing golden file " + name);
+            return in.readAllBytes();
+        }
+    }
+}
@@ -7,10 +7,13 @@ import org.example.dto.input.TriggerDto;
 import org.example.dto.internal.ValidationResult;
 import org.example.service.TriggerType;
 import org.example.validator.ConcurrentJobValidator;
+import org.example.validator.ValidationStrategy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -80,6 +83,48 @@ class ConcurrentJobValidatorTest {
 
 
 
+    @Test
+    void validate_shouldReportJobErrorsInInputOrder_whenBatchSpansManyChunks() {
+        List<JobDto> jobs = createJobs(20_000);
+        jobs.get(15_000).setTrigger(null);
+        jobs.get(3).setJobName("");
+        jobs.get(9_000).setJobName(null);
+        jobs.get(9_000).setTrigger(null);
+
+        ValidationResult result = validator.validate(ExportDataDto.builder().jobs(jobs).build());
+
+        assertEquals(List.of(
+                "Job 1003 has no name",
+                "Job 10000 has no name",
+                "Job 10000 (null) has no trigger",
+                "Job 16000 (Job_15000) has no trigger"), result.getErrors());
+    }
+
+
+
+    @ParameterizedTest
+    @EnumSource(ValidationStrategy.class)
+    void validate_shouldReportSameErrors_withEveryStrategy(ValidationStrategy strategy) {
+        List<JobDto> jobs = createJobs(5_000);
+        jobs.get(10).setTrigger(null);
+        jobs.add(createJobWithDeps(9999, "Invalid_Job", 88888));
+        jobs.add(createJobWithDeps(1000, "Duplicate_Job"));
+
+        ConcurrentJobValidator forced = new ConcurrentJobValidator(strategy);
+        try {
+            ValidationResult result = forced.validate(ExportDataDto.builder().jobs(jobs).build());
+
+            assertEquals(List.of(
+                    "Job 1010 (Job_10) has no trigger",
+                    "Duplicate job ID: 1000",
+                    "Job 9999 depends on non-existent job 88888"), result.getErrors());
+        } finally {
+            forced.shutdown();
+        }
+    }
+
+
+
     @Test
     void validate_shouldBeThreadSafe_whenMultipleThreadsRunConcurrently() throws InterruptedException {
         List<JobDto> jobs = createJobs(100);
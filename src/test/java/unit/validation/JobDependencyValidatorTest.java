@@ -171,6 +171,57 @@ class JobDependencyValidatorTest {
 
 
 
+    @Test
+    void validate_shouldReportDuplicates_insteadOfFailing_whenJobIdsRepeat() {
+        JobDto job1 = createJob(1001, "Job_1");
+        JobDto job2 = createJobWithDeps(1001, "Job_1_Copy", 1002);
+        JobDto job3 = createJob(1002, "Job_2");
+
+        ValidationResult result = validator.validate(createExport(job1, job2, job3));
+
+        assertEquals(List.of("Duplicate job ID: 1001"), result.getErrors());
+    }
+
+
+
+    @Test
+    void validate_shouldReportEveryCycle_withTheJobsInvolved() {
+        JobDto job1 = createJobWithDeps(1001, "Job_1", 1002);
+        JobDto job2 = createJobWithDeps(1002, "Job_2", 1001);
+        JobDto job3 = createJobWithDeps(2001, "Job_3", 2003);
+        JobDto job4 = createJobWithDeps(2002, "Job_4", 2001);
+        JobDto job5 = createJobWithDeps(2003, "Job_5", 2002);
+        JobDto job6 = createJobWithDeps(3001, "Job_6", 1001);
+
+        ValidationResult result = validator.validate(createExport(job1, job2, job3, job4, job5, job6));
+
+        assertEquals(2, result.getErrors().size());
+        assertTrue(result.getErrors().contains("Circular dependency detected between 2 jobs: 1001, 1002"));
+        assertTrue(result.getErrors().contains("Circular dependency detected between 3 jobs: 2001, 2002, 2003"));
+    }
+
+
+
+    @Test
+    void validate_shouldHandleDeepDependencyChains_withoutStackOverflow() {
+        int depth = 200_000;
+        JobDto[] jobs = new JobDto[depth];
+        jobs[0] = createJob(1, "Job_1");
+        for (int id = 2; id <= depth; id++) {
+            jobs[id - 1] = createJobWithDeps(id, "Job_" + id, id - 1);
+        }
+
+        assertTrue(validator.validate(createExport(jobs)).isValid());
+
+        jobs[0] = createJobWithDeps(1, "Job_1", depth);
+        ValidationResult result = validator.validate(createExport(jobs));
+
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("Circular dependency detected between 200000 jobs: 1, 2, 3"));
+    }
+
+
+
     @Test
     void validate_shouldPass_whenExportIsEmpty() {
         ExportDataDto export = ExportDataDto.builder().jobs(Collections.emptyList()).build();
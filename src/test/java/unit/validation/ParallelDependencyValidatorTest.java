@@ -0,0 +1,112 @@
+package unit.validation;
+
+import org.example.dto.input.DependencyDto;
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.input.JobDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.validator.JobDependencyValidator;
+import org.example.validator.ParallelDependencyValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelDependencyValidator Tests")
+class ParallelDependencyValidatorTest {
+
+    private ForkJoinPool pool;
+    private ParallelDependencyValidator validator;
+
+
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        validator = new ParallelDependencyValidator(pool);
+    }
+
+
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+
+
+    @Test
+    void validate_shouldReportSameErrorsAsSequentialValidator_onLargeFaultyGraph() {
+        ExportDataDto export = createExport(60_000, new Random(7));
+
+        ValidationResult sequential = new JobDependencyValidator().validate(export);
+        ValidationResult parallel = validator.validate(export);
+
+        assertTrue(sequential.hasErrors());
+        assertEquals(sequential.getErrors(), parallel.getErrors());
+    }
+
+
+
+    @Test
+    void validate_shouldPass_whenLargeGraphIsAcyclic() {
+        List<JobDto> jobs = new ArrayList<>();
+        for (int id = 0; id < 50_000; id++) {
+            jobs.add(job(id, id == 0 ? new int[0] : new int[]{id - 1, id / 2}));
+        }
+
+        ValidationResult result = validator.validate(ExportDataDto.builder().jobs(jobs).build());
+
+        assertTrue(result.isValid());
+    }
+
+
+
+    @Test
+    void validate_shouldReportDuplicatesInInputOrder() {
+        List<JobDto> jobs = List.of(job(5), job(3), job(5), job(3), job(5));
+
+        ValidationResult result = validator.validate(ExportDataDto.builder().jobs(jobs).build());
+
+        assertEquals(List.of("Duplicate job ID: 5", "Duplicate job ID: 3", "Duplicate job ID: 5"), result.getErrors());
+    }
+
+
+
+    private ExportDataDto createExport(int size, Random random) {
+        List<JobDto> jobs = new ArrayList<>();
+
+        for (int id = 0; id < size; id++) {
+            int[] deps = id == 0 ? new int[0] : new int[]{random.nextInt(id), random.nextInt(id)};
+            jobs.add(job(id, deps));
+        }
+
+        jobs.add(job(17, 42));
+        jobs.add(job(size + 1, size + 500_000));
+        jobs.add(job(size + 2, size + 3));
+        jobs.add(job(size + 3, size + 4));
+        jobs.add(job(size + 4, size + 2));
+        jobs.add(job(size + 5, size + 5));
+        jobs.set(1000, job(1000, 30_000));
+        jobs.set(30_000, job(30_000, 20_000));
+        jobs.set(20_000, job(20_000, 1000));
+
+        return ExportDataDto.builder().jobs(jobs).build();
+    }
+
+
+
+    private JobDto job(int id, int... depIds) {
+        List<DependencyDto> deps = new ArrayList<>();
+        for (int depId : depIds) {
+            deps.add(DependencyDto.builder().dependsOnJobId(depId).requiredStatus("SUCCESS").build());
+        }
+        return JobDto.builder().jobId(id).jobName("Job_" + id).dependencies(deps).build();
+    }
+}
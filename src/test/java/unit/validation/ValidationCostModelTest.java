@@ -0,0 +1,101 @@
+package unit.validation;
+
+import org.example.dto.input.ExportDataDto;
+import org.example.dto.internal.ValidationResult;
+import org.example.validator.ValidationCostModel;
+import org.example.validator.ValidationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ValidationCostModel Tests")
+class ValidationCostModelTest {
+
+    private AtomicLong clock;
+    private AtomicInteger runs;
+    private ValidationCostModel model;
+
+
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        runs = new AtomicInteger();
+        model = new ValidationCostModel(this::simulate, 4, clock::get);
+    }
+
+
+
+    @Test
+    void choose_shouldPickCheapestStrategy_forEachBatchSize() {
+        assertEquals(ValidationStrategy.SEQUENTIAL, model.choose(10));
+        assertEquals(ValidationStrategy.SEQUENTIAL, model.choose(200));
+        assertEquals(ValidationStrategy.CHUNKED, model.choose(1_000));
+        assertEquals(ValidationStrategy.FORK_JOIN, model.choose(100_000));
+    }
+
+
+
+    @Test
+    void choose_shouldNotCalibrate_forTinyBatches() {
+        model.choose(5);
+
+        assertEquals(0, runs.get());
+    }
+
+
+
+    @Test
+    void choose_shouldStaySequential_withoutCalibrating_whenPoolHasOneThread() {
+        ValidationCostModel singleThreaded = new ValidationCostModel(this::simulate, 1, clock::get);
+
+        assertEquals(ValidationStrategy.SEQUENTIAL, singleThreaded.choose(1_000_000));
+        assertEquals(0, runs.get());
+    }
+
+
+
+    @Test
+    void choose_shouldCalibrateOnlyOnce() {
+        model.choose(1_000);
+        int calibrationRuns = runs.get();
+        model.choose(50_000);
+
+        assertTrue(calibrationRuns > 0);
+        assertEquals(calibrationRuns, runs.get());
+    }
+
+
+
+    @Test
+    void record_shouldMoveDecision_whenRealRunsAreSlowerThanCalibrated() {
+        assertEquals(ValidationStrategy.FORK_JOIN, model.choose(100_000));
+
+        for (int i = 0; i < 10; i++) {
+            model.record(ValidationStrategy.FORK_JOIN, 100_000, 100_000L * 80);
+        }
+
+        assertEquals(ValidationStrategy.CHUNKED, model.choose(100_000));
+    }
+
+
+
+    /* sequential 100 ns/job; chunked 20 us + 40 ns/job; fork-join 200 us + 10 ns/job */
+    private ValidationResult simulate(ValidationStrategy strategy, ExportDataDto export) {
+        int jobs = export.getJobs().size();
+        long nanos = switch (strategy) {
+            case SEQUENTIAL -> 100L * jobs;
+            case CHUNKED -> 20_000 + 40L * jobs;
+            default -> 200_000 + 10L * jobs;
+        };
+
+        runs.incrementAndGet();
+        clock.addAndGet(nanos);
+        return new ValidationResult();
+    }
+}